@@ -0,0 +1,17 @@
+package android.os;
+
+/**
+ * JVM stub of the android build, the version is the benchmarked API level.
+ */
+public class Build {
+
+    public static class VERSION {
+
+        public static final int SDK_INT = 28;
+    }
+
+    public static class VERSION_CODES {
+
+        public static final int LOLLIPOP_MR1 = 22;
+    }
+}
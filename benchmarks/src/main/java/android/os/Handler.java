@@ -0,0 +1,21 @@
+package android.os;
+
+/**
+ * JVM stub of the android handler, messages are run on the calling thread.
+ */
+public class Handler {
+
+    public Handler(Looper looper) {
+        // unused
+    }
+
+    public final boolean post(Runnable runnable) {
+        runnable.run();
+        return true;
+    }
+
+    public final boolean sendMessage(Message message) {
+        message.callback.run();
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package android.os;
+
+/**
+ * JVM stub of the android looper.
+ */
+public final class Looper {
+
+    private static final Looper MAIN = new Looper();
+
+    private Looper() {
+        // unused
+    }
+
+    public static Looper getMainLooper() {
+        return MAIN;
+    }
+}
@@ -0,0 +1,19 @@
+package android.os;
+
+/**
+ * JVM stub of the android message, only the callback is kept.
+ */
+public final class Message {
+
+    Runnable callback;
+
+    public static Message obtain(Handler handler, Runnable callback) {
+        Message message = new Message();
+        message.callback = callback;
+        return message;
+    }
+
+    public void setAsynchronous(boolean async) {
+        // unused
+    }
+}
@@ -0,0 +1,34 @@
+package android.os;
+
+/**
+ * JVM stub of the android parcel, only carrying a bundle.
+ */
+public final class Parcel {
+
+    private Bundle mBundle;
+
+    public static Parcel obtain() {
+        return new Parcel();
+    }
+
+    public void writeBundle(Bundle bundle) {
+        mBundle = bundle;
+    }
+
+    public Bundle readBundle(ClassLoader loader) {
+        return mBundle;
+    }
+
+    public byte[] marshall() {
+        return new byte[0];
+    }
+
+    public void unmarshall(byte[] data, int offset, int length) {
+    }
+
+    public void setDataPosition(int position) {
+    }
+
+    public void recycle() {
+    }
+}
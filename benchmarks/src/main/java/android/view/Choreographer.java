@@ -0,0 +1,26 @@
+package android.view;
+
+/**
+ * JVM stub of the android choreographer, frame callbacks are run on the calling thread.
+ */
+public final class Choreographer {
+
+    private static final Choreographer INSTANCE = new Choreographer();
+
+    public interface FrameCallback {
+
+        void doFrame(long frameTimeNanos);
+    }
+
+    private Choreographer() {
+        // unused
+    }
+
+    public static Choreographer getInstance() {
+        return INSTANCE;
+    }
+
+    public void postFrameCallback(FrameCallback callback) {
+        callback.doFrame(System.nanoTime());
+    }
+}
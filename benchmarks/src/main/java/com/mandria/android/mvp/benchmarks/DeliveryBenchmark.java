@@ -0,0 +1,97 @@
+package com.mandria.android.mvp.benchmarks;
+
+import com.mandria.android.mvp.rx.ReplayPolicy;
+import com.mandria.android.mvp.rx.RxPresenter;
+import com.mandria.android.mvp.rx.callbacks.OnNext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subjects.PublishSubject;
+
+/**
+ * <p>Benchmarks of the delivery of one item from a running task to the attached view.</p>
+ * <p>Run with the gc profiler (-prof gc) to get the allocation rate per emission.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeliveryBenchmark {
+
+    /**
+     * Replay policy of the task, bounded so that the benchmark does not retain every emitted item.
+     */
+    @Param({"latest", "none"})
+    String replayPolicy;
+
+    private final Object mView = new Object();
+
+    private final Integer mItem = 42;
+
+    private RxPresenter<Object> mPresenter;
+
+    private PublishSubject<Integer> mSubject;
+
+    private PublishProcessor<Integer> mProcessor;
+
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        ReplayPolicy policy = "none".equals(replayPolicy) ? ReplayPolicy.none() : ReplayPolicy.latest();
+
+        OnNext<Object, Integer> onNext = new OnNext<Object, Integer>() {
+            @Override
+            public void accept(Object view, Integer integer) {
+                blackhole.consume(integer);
+            }
+        };
+
+        mSubject = PublishSubject.create();
+        mProcessor = PublishProcessor.create();
+
+        mPresenter = new RxPresenter<>();
+        mPresenter.create(null);
+        mPresenter.attachView(mView);
+        mPresenter.start("observable", mSubject, false, policy, onNext, null, null);
+        mPresenter.start("flowable", mProcessor, false, policy, onNext, null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mPresenter.detachView();
+        mPresenter.destroy();
+    }
+
+    /**
+     * Emits an item from an observable task.
+     */
+    @Benchmark
+    public void observableEmission() {
+        mSubject.onNext(mItem);
+    }
+
+    /**
+     * Emits an item from a flowable task.
+     */
+    @Benchmark
+    public void flowableEmission() {
+        mProcessor.onNext(mItem);
+    }
+}
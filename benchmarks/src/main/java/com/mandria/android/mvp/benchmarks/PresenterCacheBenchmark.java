@@ -0,0 +1,103 @@
+package com.mandria.android.mvp.benchmarks;
+
+import com.mandria.android.mvp.Presenter;
+import com.mandria.android.mvp.PresenterCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link PresenterCache} operations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PresenterCacheBenchmark {
+
+    /**
+     * Number of presenters in the cache.
+     */
+    @Param({"10", "100"})
+    int cacheSize;
+
+    private PresenterCache mPresenterCache;
+
+    private Presenter[] mPresenters;
+
+    private String[] mIds;
+
+    private int mIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mPresenterCache = new PresenterCache();
+        mPresenters = new Presenter[cacheSize];
+        mIds = new String[cacheSize];
+        for (int i = 0; i < cacheSize; i++) {
+            mPresenters[i] = new BenchmarkPresenter();
+            mPresenterCache.savePresenter(mPresenters[i]);
+            mIds[i] = mPresenterCache.getId(mPresenters[i]);
+        }
+    }
+
+    /**
+     * @return The next cached presenter index.
+     */
+    private int nextIndex() {
+        mIndex = mIndex + 1 == cacheSize ? 0 : mIndex + 1;
+        return mIndex;
+    }
+
+    /**
+     * Gets a presenter from its id, as done when a view is recreated.
+     *
+     * @return The presenter.
+     */
+    @Benchmark
+    public Presenter getPresenter() {
+        return mPresenterCache.getPresenter(mIds[nextIndex()]);
+    }
+
+    /**
+     * Gets the id of a presenter, as done when the view state is saved.
+     *
+     * @return The presenter id.
+     */
+    @Benchmark
+    public String getId() {
+        return mPresenterCache.getId(mPresenters[nextIndex()]);
+    }
+
+    /**
+     * Saves then removes a presenter, as done when a view is created then finished.
+     */
+    @Benchmark
+    public void saveThenRemove() {
+        Presenter presenter = mPresenters[nextIndex()];
+        mPresenterCache.removePresenter(presenter);
+        mPresenterCache.savePresenter(presenter);
+        mIds[mIndex] = mPresenterCache.getId(presenter);
+    }
+
+    /**
+     * Presenter used in the cache.
+     */
+    private static final class BenchmarkPresenter extends Presenter<Object> {
+
+    }
+}
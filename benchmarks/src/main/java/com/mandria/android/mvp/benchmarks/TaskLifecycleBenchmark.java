@@ -0,0 +1,119 @@
+package com.mandria.android.mvp.benchmarks;
+
+import com.mandria.android.mvp.rx.RxPresenter;
+import com.mandria.android.mvp.rx.callbacks.OnNext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+
+/**
+ * Benchmarks of the {@link RxPresenter} task lifecycle : start, resume on view attach, dispose on view detach and cancel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskLifecycleBenchmark {
+
+    /**
+     * Number of tasks held by the presenter.
+     */
+    @Param({"1", "10", "30"})
+    int taskCount;
+
+    private final Object mView = new Object();
+
+    private final Observable<Integer> mNever = Observable.never();
+
+    private final Observable<Integer> mJust = Observable.just(1);
+
+    private String[] mTags;
+
+    private RxPresenter<Object> mPresenter;
+
+    private OnNext<Object, Integer> mOnNext;
+
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        mTags = new String[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            mTags[i] = "task" + i;
+        }
+
+        mOnNext = new OnNext<Object, Integer>() {
+            @Override
+            public void accept(Object view, Integer integer) {
+                blackhole.consume(integer);
+            }
+        };
+
+        // Presenter holding running tasks, used to measure view attach and detach
+        mPresenter = new RxPresenter<>();
+        mPresenter.create(null);
+        for (String tag : mTags) {
+            mPresenter.start(tag, Observable.just(1).concatWith(mNever), false, mOnNext, null, null);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mPresenter.destroy();
+    }
+
+    /**
+     * Starts tasks completing synchronously on an attached presenter : start, delivery and removal from the cache.
+     */
+    @Benchmark
+    public void startAndComplete() {
+        RxPresenter<Object> presenter = new RxPresenter<>();
+        presenter.create(null);
+        presenter.attachView(mView);
+        for (String tag : mTags) {
+            presenter.start(tag, mJust, false, mOnNext, null, null);
+        }
+        presenter.detachView();
+        presenter.destroy();
+    }
+
+    /**
+     * Starts running tasks then destroys the presenter, which cancels all the tasks.
+     */
+    @Benchmark
+    public void startThenCancelAll() {
+        RxPresenter<Object> presenter = new RxPresenter<>();
+        presenter.create(null);
+        presenter.attachView(mView);
+        for (String tag : mTags) {
+            presenter.start(tag, mNever, false, mOnNext, null, null);
+        }
+        presenter.detachView();
+        presenter.destroy();
+    }
+
+    /**
+     * Attaches then detaches the view of a presenter holding running tasks, i.e. resumes then disposes all the tasks.
+     */
+    @Benchmark
+    public void attachThenDetach() {
+        mPresenter.attachView(mView);
+        mPresenter.detachView();
+    }
+}
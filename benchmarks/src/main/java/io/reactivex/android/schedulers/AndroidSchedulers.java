@@ -0,0 +1,18 @@
+package io.reactivex.android.schedulers;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * JVM stub of the android schedulers, the main thread is the benchmark thread.
+ */
+public final class AndroidSchedulers {
+
+    private AndroidSchedulers() {
+        // unused
+    }
+
+    public static Scheduler mainThread() {
+        return Schedulers.trampoline();
+    }
+}
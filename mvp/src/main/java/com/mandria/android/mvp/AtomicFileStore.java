@@ -0,0 +1,137 @@
+package com.mandria.android.mvp;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+
+/**
+ * <p>Files of a directory keyed by a string, used by the stores writing data on disk such as the {@link PresenterStateStore}.</p>
+ * <p>Files are written to a temporary file first and then renamed, so that a file is either fully written or not written. Keys are
+ * encoded to be valid file names.</p>
+ * <p>This class does not synchronize its accesses, the store using it should access a key from one thread at a time.</p>
+ */
+public final class AtomicFileStore {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final File mDirectory;
+
+    /**
+     * Constructor.
+     *
+     * @param directory Directory of the files, created on the first write.
+     */
+    public AtomicFileStore(@NonNull File directory) {
+        mDirectory = directory;
+    }
+
+    /**
+     * Writes the file of a key to a temporary file and then renames it.
+     *
+     * @param key  Key.
+     * @param data File content.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(@NonNull String key, @NonNull byte[] data) throws IOException {
+        if (!mDirectory.isDirectory() && !mDirectory.mkdirs()) {
+            throw new IOException("Cannot create directory " + mDirectory);
+        }
+
+        File file = getFile(key);
+        File temp = new File(mDirectory, file.getName() + TEMP_SUFFIX);
+        OutputStream output = new FileOutputStream(temp);
+        try {
+            output.write(data);
+        } finally {
+            output.close();
+        }
+
+        if (!temp.renameTo(file)) {
+            // noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            throw new IOException("Cannot rename " + temp + " to " + file);
+        }
+    }
+
+    /**
+     * Reads the file of a key.
+     *
+     * @param key Key.
+     * @return The file content, null if there is no file for this key.
+     * @throws IOException If the file cannot be read.
+     */
+    @Nullable
+    public byte[] read(@NonNull String key) throws IOException {
+        File file = getFile(key);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream((int) file.length());
+        InputStream input = new FileInputStream(file);
+        try {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+        } finally {
+            input.close();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deletes the file of a key if any.
+     *
+     * @param key Key.
+     */
+    public void delete(@NonNull String key) {
+        // noinspection ResultOfMethodCallIgnored
+        getFile(key).delete();
+    }
+
+    /**
+     * Deletes the files, temporary files included, last modified before the given time.
+     *
+     * @param time Time in milliseconds since epoch, {@link Long#MAX_VALUE} to delete all the files.
+     * @return The number of deleted files.
+     */
+    public int deleteModifiedBefore(long time) {
+        File[] files = mDirectory.listFiles();
+        if (files == null) {
+            return 0;
+        }
+
+        int deleted = 0;
+        for (File file : files) {
+            if (file.lastModified() < time && file.delete()) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Gets the file of a key, the key is encoded to be a valid file name.
+     *
+     * @param key Key.
+     * @return The file of the key.
+     */
+    private File getFile(String key) {
+        try {
+            return new File(mDirectory, URLEncoder.encode(key, "UTF-8"));
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.mandria.android.mvp;
+
+import android.support.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Defines when the {@link PresenterCache} evicts presenters.</p>
+ * <p>Only presenters whose view is detached can be evicted, the least recently detached first. Evicted presenters are removed from
+ * the cache and destroyed.</p>
+ */
+public final class EvictionPolicy {
+
+    /**
+     * No limit on the number of presenters nor on their idle time.
+     */
+    private static final EvictionPolicy NONE = new EvictionPolicy(Integer.MAX_VALUE, Long.MAX_VALUE);
+
+    /**
+     * Reasons of an eviction.
+     */
+    public enum Reason {
+        /**
+         * The cache holds more presenters than the max size.
+         */
+        SIZE,
+        /**
+         * The view of the presenter has been detached for longer than the max idle time.
+         */
+        IDLE,
+        /**
+         * The system asked the application to trim its memory.
+         */
+        MEMORY
+    }
+
+    private final int mMaxSize;
+
+    private final long mMaxIdleTimeNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize          Max number of presenters in the cache.
+     * @param maxIdleTimeNanos Max time in nanoseconds a presenter stays in the cache once its view is detached.
+     */
+    private EvictionPolicy(int maxSize, long maxIdleTimeNanos) {
+        mMaxSize = maxSize;
+        mMaxIdleTimeNanos = maxIdleTimeNanos;
+    }
+
+    /**
+     * Presenters are never evicted (default behaviour).
+     *
+     * @return The no eviction policy.
+     */
+    @NonNull
+    public static EvictionPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Detached presenters are evicted when the cache holds more than the given number of presenters.
+     *
+     * @param maxSize Max number of presenters in the cache, must be positive.
+     * @return A size bounded eviction policy.
+     */
+    @NonNull
+    public static EvictionPolicy maxSize(int maxSize) {
+        return NONE.withMaxSize(maxSize);
+    }
+
+    /**
+     * Detached presenters are evicted once their view has been detached for longer than the given time.
+     *
+     * @param maxIdleTime Max idle time, must be positive.
+     * @param unit        Time unit of the max idle time.
+     * @return An idle time bounded eviction policy.
+     */
+    @NonNull
+    public static EvictionPolicy maxIdleTime(long maxIdleTime, @NonNull TimeUnit unit) {
+        return NONE.withMaxIdleTime(maxIdleTime, unit);
+    }
+
+    /**
+     * Gets a copy of this policy with the given max size.
+     *
+     * @param maxSize Max number of presenters in the cache, must be positive.
+     * @return A new eviction policy.
+     */
+    @NonNull
+    public EvictionPolicy withMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize should be positive but was " + maxSize);
+        }
+        return new EvictionPolicy(maxSize, mMaxIdleTimeNanos);
+    }
+
+    /**
+     * Gets a copy of this policy with the given max idle time.
+     *
+     * @param maxIdleTime Max idle time, must be positive.
+     * @param unit        Time unit of the max idle time.
+     * @return A new eviction policy.
+     */
+    @NonNull
+    public EvictionPolicy withMaxIdleTime(long maxIdleTime, @NonNull TimeUnit unit) {
+        if (maxIdleTime <= 0) {
+            throw new IllegalArgumentException("maxIdleTime should be positive but was " + maxIdleTime);
+        }
+        return new EvictionPolicy(mMaxSize, unit.toNanos(maxIdleTime));
+    }
+
+    /**
+     * @return Max number of presenters in the cache.
+     */
+    int getMaxSize() {
+        return mMaxSize;
+    }
+
+    /**
+     * @return Max time in nanoseconds a presenter stays in the cache once its view is detached.
+     */
+    long getMaxIdleTimeNanos() {
+        return mMaxIdleTimeNanos;
+    }
+
+    /**
+     * @return True if this policy may evict presenters.
+     */
+    boolean isBounded() {
+        return mMaxSize != Integer.MAX_VALUE || mMaxIdleTimeNanos != Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EvictionPolicy maxSize : %s, maxIdleTime : %sns", mMaxSize, mMaxIdleTimeNanos);
+    }
+}
@@ -3,21 +3,40 @@ package com.mandria.android.mvp;
 import android.util.Log;
 
 /**
- * MVP logger.
+ * <p>MVP logger.</p>
+ * <p>The format methods, such as {@link #dFormat(String, String, Object)}, format the message only if logs are enabled. They are
+ * named apart from the methods taking a throwable, so that a format argument is never logged as a throwable.</p>
  */
 public final class MVPLogger {
 
     public static boolean SHOW_MVP_LOGS = false;
 
-    private static final int VERBOSE = 2;
+    public static final int VERBOSE = 2;
 
-    private static final int DEBUG = 3;
+    public static final int DEBUG = 3;
 
-    private static final int INFO = 4;
+    public static final int INFO = 4;
 
-    private static final int WARN = 5;
+    public static final int WARN = 5;
 
-    private static final int ERROR = 6;
+    public static final int ERROR = 6;
+
+    /**
+     * Min level of the logged messages when logs are enabled.
+     */
+    public static int MIN_LOG_LEVEL = VERBOSE;
+
+    /**
+     * <p>Gets if a message of the given level would be logged.</p>
+     * <p>Call sites building an expensive message should check this method first. Format methods taking arguments check it
+     * before formatting the message.</p>
+     *
+     * @param level Log level.
+     * @return True if logs are enabled for the level.
+     */
+    public static boolean isLoggable(int level) {
+        return SHOW_MVP_LOGS && level >= MIN_LOG_LEVEL;
+    }
 
     /**
      * Logs if logs are enabled.
@@ -29,7 +48,7 @@ public final class MVPLogger {
      * @return Android SDK logger return value.
      */
     private static int log(String tag, String msg, Throwable tr, int level) {
-        if (SHOW_MVP_LOGS) {
+        if (isLoggable(level)) {
             switch (level) {
                 case VERBOSE:
                     return tr == null ? Log.v(tag, msg) : Log.v(tag, msg, tr);
@@ -48,6 +67,23 @@ public final class MVPLogger {
         return 0;
     }
 
+    /**
+     * Formats then logs a message if logs are enabled for the level.
+     *
+     * @param tag    Tag.
+     * @param format Message format.
+     * @param arg1   First format argument.
+     * @param arg2   Second format argument.
+     * @param level  Log level
+     * @return Android SDK logger return value.
+     */
+    private static int logFormat(String tag, String format, Object arg1, Object arg2, int level) {
+        if (isLoggable(level)) {
+            return log(tag, String.format(format, arg1, arg2), null, level);
+        }
+        return 0;
+    }
+
     /**
      * Logs a verbose message.
      *
@@ -71,6 +107,31 @@ public final class MVPLogger {
         return log(tag, msg, tr, VERBOSE);
     }
 
+    /**
+     * Logs a verbose message, formatted with {@link String#format(String, Object...)} only if logs are enabled.
+     *
+     * @param tag    Tag.
+     * @param format Message format.
+     * @param arg    Format argument.
+     * @return Android SDK logger return value.
+     */
+    public static int vFormat(String tag, String format, Object arg) {
+        return logFormat(tag, format, arg, null, VERBOSE);
+    }
+
+    /**
+     * Logs a verbose message, formatted with {@link String#format(String, Object...)} only if logs are enabled.
+     *
+     * @param tag    Tag.
+     * @param format Message format.
+     * @param arg1   First format argument.
+     * @param arg2   Second format argument.
+     * @return Android SDK logger return value.
+     */
+    public static int vFormat(String tag, String format, Object arg1, Object arg2) {
+        return logFormat(tag, format, arg1, arg2, VERBOSE);
+    }
+
     /**
      * Logs a debug message.
      *
@@ -94,6 +155,31 @@ public final class MVPLogger {
         return log(tag, msg, tr, DEBUG);
     }
 
+    /**
+     * Logs a debug message, formatted with {@link String#format(String, Object...)} only if logs are enabled.
+     *
+     * @param tag    Tag.
+     * @param format Message format.
+     * @param arg    Format argument.
+     * @return Android SDK logger return value.
+     */
+    public static int dFormat(String tag, String format, Object arg) {
+        return logFormat(tag, format, arg, null, DEBUG);
+    }
+
+    /**
+     * Logs a debug message, formatted with {@link String#format(String, Object...)} only if logs are enabled.
+     *
+     * @param tag    Tag.
+     * @param format Message format.
+     * @param arg1   First format argument.
+     * @param arg2   Second format argument.
+     * @return Android SDK logger return value.
+     */
+    public static int dFormat(String tag, String format, Object arg1, Object arg2) {
+        return logFormat(tag, format, arg1, arg2, DEBUG);
+    }
+
     /**
      * Logs an info message.
      *
@@ -117,6 +203,31 @@ public final class MVPLogger {
         return log(tag, msg, tr, INFO);
     }
 
+    /**
+     * Logs an info message, formatted with {@link String#format(String, Object...)} only if logs are enabled.
+     *
+     * @param tag    Tag.
+     * @param format Message format.
+     * @param arg    Format argument.
+     * @return Android SDK logger return value.
+     */
+    public static int iFormat(String tag, String format, Object arg) {
+        return logFormat(tag, format, arg, null, INFO);
+    }
+
+    /**
+     * Logs an info message, formatted with {@link String#format(String, Object...)} only if logs are enabled.
+     *
+     * @param tag    Tag.
+     * @param format Message format.
+     * @param arg1   First format argument.
+     * @param arg2   Second format argument.
+     * @return Android SDK logger return value.
+     */
+    public static int iFormat(String tag, String format, Object arg1, Object arg2) {
+        return logFormat(tag, format, arg1, arg2, INFO);
+    }
+
     /**
      * Logs a warn message.
      *
@@ -140,6 +251,31 @@ public final class MVPLogger {
         return log(tag, msg, tr, WARN);
     }
 
+    /**
+     * Logs a warn message, formatted with {@link String#format(String, Object...)} only if logs are enabled.
+     *
+     * @param tag    Tag.
+     * @param format Message format.
+     * @param arg    Format argument.
+     * @return Android SDK logger return value.
+     */
+    public static int wFormat(String tag, String format, Object arg) {
+        return logFormat(tag, format, arg, null, WARN);
+    }
+
+    /**
+     * Logs a warn message, formatted with {@link String#format(String, Object...)} only if logs are enabled.
+     *
+     * @param tag    Tag.
+     * @param format Message format.
+     * @param arg1   First format argument.
+     * @param arg2   Second format argument.
+     * @return Android SDK logger return value.
+     */
+    public static int wFormat(String tag, String format, Object arg1, Object arg2) {
+        return logFormat(tag, format, arg1, arg2, WARN);
+    }
+
     /**
      * Logs a error message.
      *
@@ -162,4 +298,29 @@ public final class MVPLogger {
     public static int e(String tag, String msg, Throwable tr) {
         return log(tag, msg, tr, ERROR);
     }
+
+    /**
+     * Logs a error message, formatted with {@link String#format(String, Object...)} only if logs are enabled.
+     *
+     * @param tag    Tag.
+     * @param format Message format.
+     * @param arg    Format argument.
+     * @return Android SDK logger return value.
+     */
+    public static int eFormat(String tag, String format, Object arg) {
+        return logFormat(tag, format, arg, null, ERROR);
+    }
+
+    /**
+     * Logs a error message, formatted with {@link String#format(String, Object...)} only if logs are enabled.
+     *
+     * @param tag    Tag.
+     * @param format Message format.
+     * @param arg1   First format argument.
+     * @param arg2   Second format argument.
+     * @return Android SDK logger return value.
+     */
+    public static int eFormat(String tag, String format, Object arg1, Object arg2) {
+        return logFormat(tag, format, arg1, arg2, ERROR);
+    }
 }
@@ -11,6 +11,8 @@ public abstract class Presenter<V> {
 
     private V mView;
 
+    private volatile boolean mDestroyed;
+
     /**
      * <p>This method is called when the presenter is created.<br>
      * It is not attached to any "onCreate" method from Activity nor Fragment.<br>
@@ -19,21 +21,27 @@ public abstract class Presenter<V> {
      * @param savedState The bundle used to save presenter data, may be null.
      */
     protected void onCreate(@Nullable Bundle savedState) {
-        MVPLogger.d(getClass().getSimpleName(), "On create presenter");
+        if (MVPLogger.isLoggable(MVPLogger.DEBUG)) {
+            MVPLogger.d(getClass().getSimpleName(), "On create presenter");
+        }
     }
 
     /**
      * This method is called after the presenter is created and attached the first time to the view.
      */
     public void onCreatedThenAttached() {
-        MVPLogger.d(getClass().getSimpleName(), "On presenter created then view attached");
+        if (MVPLogger.isLoggable(MVPLogger.DEBUG)) {
+            MVPLogger.d(getClass().getSimpleName(), "On presenter created then view attached");
+        }
     }
 
     /**
      * This method is called when the user leaves the view.
      */
     protected void onDestroy() {
-        MVPLogger.d(getClass().getSimpleName(), "On destroy presenter");
+        if (MVPLogger.isLoggable(MVPLogger.DEBUG)) {
+            MVPLogger.d(getClass().getSimpleName(), "On destroy presenter");
+        }
     }
 
     /**
@@ -42,7 +50,21 @@ public abstract class Presenter<V> {
      * @param state Presenter bundle state.
      */
     protected void onSave(@NonNull Bundle state) {
-        MVPLogger.d(getClass().getSimpleName(), "On save presenter state");
+        if (MVPLogger.isLoggable(MVPLogger.DEBUG)) {
+            MVPLogger.d(getClass().getSimpleName(), "On save presenter state");
+        }
+    }
+
+    /**
+     * <p>This method is called when the system asks the application to trim its memory.<br>
+     * Presenters should release the resources they can recreate, depending on the trim level.</p>
+     *
+     * @param level Trim level, see {@link android.content.ComponentCallbacks2}.
+     */
+    protected void onTrimMemory(int level) {
+        if (MVPLogger.isLoggable(MVPLogger.DEBUG)) {
+            MVPLogger.d(getClass().getSimpleName(), "On trim memory presenter");
+        }
     }
 
     /**
@@ -51,14 +73,18 @@ public abstract class Presenter<V> {
      * @param view The view which is now attached.
      */
     protected void onViewAttached(@NonNull V view) {
-        MVPLogger.d(getClass().getSimpleName(), String.format("View %s is attached to presenter", mView.getClass().getSimpleName()));
+        if (MVPLogger.isLoggable(MVPLogger.DEBUG)) {
+            MVPLogger.dFormat(getClass().getSimpleName(), "View %s is attached to presenter", mView.getClass().getSimpleName());
+        }
     }
 
     /**
      * This method is called when the view is detached from this presenter.
      */
     protected void onViewDetached() {
-        MVPLogger.d(getClass().getSimpleName(), String.format("View %s is detached to presenter", mView.getClass().getSimpleName()));
+        if (MVPLogger.isLoggable(MVPLogger.DEBUG)) {
+            MVPLogger.dFormat(getClass().getSimpleName(), "View %s is detached to presenter", mView.getClass().getSimpleName());
+        }
     }
 
     /**
@@ -81,12 +107,25 @@ public abstract class Presenter<V> {
     }
 
     /**
-     * Destroys the presenter.
+     * Destroys the presenter, the call is ignored if it is already destroyed.
      */
     public final void destroy() {
+        if (mDestroyed) {
+            return;
+        }
+        mDestroyed = true;
         onDestroy();
     }
 
+    /**
+     * Gets if the presenter is destroyed, e.g. evicted from the {@link PresenterCache} while its view was detached.
+     *
+     * @return True if {@link #destroy()} has been called.
+     */
+    public final boolean isDestroyed() {
+        return mDestroyed;
+    }
+
     /**
      * Saves presenter data in the given bundle.
      *
@@ -96,6 +135,15 @@ public abstract class Presenter<V> {
         onSave(state);
     }
 
+    /**
+     * Trims the presenter memory.
+     *
+     * @param level Trim level, see {@link android.content.ComponentCallbacks2}.
+     */
+    public final void trimMemory(int level) {
+        onTrimMemory(level);
+    }
+
     /**
      * Attaches the view to the presenter.
      *
@@ -1,29 +1,128 @@
 package com.mandria.android.mvp;
 
-import java.util.HashMap;
+import android.content.ComponentCallbacks2;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Scheduler;
 
 /**
  * <p>A cache for the presenter.</p>
  * <p>This class should be a singleton or used with a dependency injector to be injected as an application singleton.</p>
+ * <p>This class is thread safe and lock free. Both directions share the same cache entry, the presenter to id map being the
+ * reference : a presenter is cached once it is in this map and removed as soon as it is removed from this map.</p>
+ * <p>Presenters can be evicted according to an {@link EvictionPolicy}. The views should notify the cache when they are attached to
+ * and detached from their presenter so that only presenters without view are evicted. The eviction is performed on the thread
+ * saving a presenter or detaching a view, or when calling {@link #evict()}.</p>
  */
 public final class PresenterCache {
 
     private static final String TAG = "PresenterCache";
 
-    private HashMap<String, Presenter> mIdToPresenter;
+    /**
+     * Detach time of a presenter whose view is attached or about to be.
+     */
+    private static final long IN_USE = -1;
+
+    /**
+     * Detach time of an evicted presenter.
+     */
+    private static final long EVICTED = -2;
+
+    /**
+     * Orders eviction candidates from the least recently detached.
+     */
+    private static final Comparator<Candidate> LEAST_RECENTLY_DETACHED = new Comparator<Candidate>() {
+        @Override
+        public int compare(Candidate c1, Candidate c2) {
+            return c1.mDetachedAt < c2.mDetachedAt ? -1 : (c1.mDetachedAt == c2.mDetachedAt ? 0 : 1);
+        }
+    };
+
+    private final ConcurrentHashMap<String, Entry> mIdToPresenter;
 
-    private HashMap<Presenter, String> mPresenterToId;
+    private final ConcurrentHashMap<Presenter, Entry> mPresenterToId;
+
+    private final EvictionPolicy mEvictionPolicy;
+
+    private final PresenterIdGenerator mIdGenerator;
+
+    /**
+     * Time source, null for {@link System#nanoTime()}.
+     */
+    private final Scheduler mClock;
+
+    /**
+     * Origin of the detach times, so that they are positive.
+     */
+    private final long mClockOrigin;
+
+    private volatile OnEvictionListener mOnEvictionListener;
 
     /**
      * Constructor.
      */
     public PresenterCache() {
-        mIdToPresenter = new HashMap<>();
-        mPresenterToId = new HashMap<>();
+        this(EvictionPolicy.none());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param evictionPolicy Policy defining when detached presenters are evicted.
+     */
+    public PresenterCache(@NonNull EvictionPolicy evictionPolicy) {
+        this(evictionPolicy, new SequentialPresenterIdGenerator());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param evictionPolicy Policy defining when detached presenters are evicted.
+     * @param idGenerator    Generator of the presenter ids.
+     */
+    public PresenterCache(@NonNull EvictionPolicy evictionPolicy, @NonNull PresenterIdGenerator idGenerator) {
+        this(evictionPolicy, idGenerator, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param evictionPolicy Policy defining when detached presenters are evicted.
+     * @param idGenerator    Generator of the presenter ids.
+     * @param clock          Scheduler used as the time source of the idle times, e.g. a test scheduler, null to use
+     *                       {@link System#nanoTime()}.
+     */
+    public PresenterCache(@NonNull EvictionPolicy evictionPolicy, @NonNull PresenterIdGenerator idGenerator,
+            @Nullable Scheduler clock) {
+        mIdToPresenter = new ConcurrentHashMap<>();
+        mPresenterToId = new ConcurrentHashMap<>();
+        mEvictionPolicy = evictionPolicy;
+        mIdGenerator = idGenerator;
+        mClock = clock;
+        mClockOrigin = now();
     }
 
     /**
-     * Gets a presenter using its id.
+     * Sets the listener notified of the evicted presenters.
+     *
+     * @param listener Listener, null to remove the current one.
+     */
+    public void setOnEvictionListener(@Nullable OnEvictionListener listener) {
+        mOnEvictionListener = listener;
+    }
+
+    /**
+     * <p>Gets a presenter using its id.</p>
+     * <p>The presenter is considered in use and cannot be evicted until its view is detached.</p>
      *
      * @param id  Presenter id.
      * @param <P> Presenter type.
@@ -31,21 +130,67 @@ public final class PresenterCache {
      */
     @SuppressWarnings("unchecked")
     public <P> P getPresenter(String id) {
-        return (P) mIdToPresenter.get(id);
+        if (id == null) {
+            return null;
+        }
+
+        Entry entry = mIdToPresenter.get(id);
+        // The entry may be in the middle of a save or a removal
+        if (entry == null || mPresenterToId.get(entry.mPresenter) != entry || !entry.markInUse()) {
+            return null;
+        }
+        return (P) entry.mPresenter;
     }
 
     /**
-     * Saves a presenter.
+     * Saves a presenter. If the presenter is already cached, it keeps its id.
      *
      * @param presenter Presenter to save.
+     * @throws IllegalStateException If the id generator returns an id already in use.
      */
     public void savePresenter(Presenter presenter) {
-        String id = presenter.getClass().getSimpleName() + "/" + System.nanoTime() + "/" + (int) (Math.random() * Integer.MAX_VALUE);
+        String id = mIdGenerator.generateId(presenter);
+
+        Entry entry = new Entry(id, presenter);
 
-        MVPLogger.d(TAG, String.format("Saving presenter %s to cache with id %s", presenter.getClass().getSimpleName(), id));
+        // The id direction is written first so that the presenter can be retrieved by its id
+        // as soon as it is visible in the presenter direction
+        if (mIdToPresenter.putIfAbsent(id, entry) != null) {
+            throw new IllegalStateException(String.format("Presenter id %s is already used", id));
+        }
+        if (mPresenterToId.putIfAbsent(presenter, entry) != null) {
+            mIdToPresenter.remove(id, entry);
+            return;
+        }
+
+        if (MVPLogger.isLoggable(MVPLogger.DEBUG)) {
+            MVPLogger.dFormat(TAG, "Saving presenter %s to cache with id %s", presenter.getClass().getSimpleName(), id);
+        }
+
+        evictIfNeeded();
+    }
 
-        mIdToPresenter.put(id, presenter);
-        mPresenterToId.put(presenter, id);
+    /**
+     * Notifies the cache that a view is attached to the presenter, the presenter cannot be evicted.
+     *
+     * @param presenter Presenter.
+     * @return False if the presenter is no longer cached, e.g. it has been evicted while its view was detached.
+     */
+    public boolean markViewAttached(Presenter presenter) {
+        Entry entry = mPresenterToId.get(presenter);
+        return entry != null && entry.markInUse();
+    }
+
+    /**
+     * Notifies the cache that the view is detached from the presenter, the presenter can be evicted.
+     *
+     * @param presenter Presenter.
+     */
+    public void markViewDetached(Presenter presenter) {
+        Entry entry = mPresenterToId.get(presenter);
+        if (entry != null && entry.markDetached(now() - mClockOrigin)) {
+            evictIfNeeded();
+        }
     }
 
     /**
@@ -55,7 +200,8 @@ public final class PresenterCache {
      * @return The presenter id or null.
      */
     public String getId(Presenter presenter) {
-        return mPresenterToId.get(presenter);
+        Entry entry = mPresenterToId.get(presenter);
+        return entry == null ? null : entry.mId;
     }
 
     /**
@@ -64,16 +210,238 @@ public final class PresenterCache {
      * @param presenter Presenter to remove.
      */
     public void removePresenter(Presenter presenter) {
-        MVPLogger.d(TAG, String.format("Removing presenter %s from cache", presenter.getClass().getSimpleName()));
+        if (MVPLogger.isLoggable(MVPLogger.DEBUG)) {
+            MVPLogger.dFormat(TAG, "Removing presenter %s from cache", presenter.getClass().getSimpleName());
+        }
+
+        // The presenter direction is removed first so that the presenter can no longer be retrieved by its id
+        Entry entry = mPresenterToId.remove(presenter);
+        if (entry != null) {
+            mIdToPresenter.remove(entry.mId, entry);
+        }
+    }
+
+    /**
+     * @return Current time in nanoseconds.
+     */
+    private long now() {
+        return mClock != null ? mClock.now(TimeUnit.NANOSECONDS) : System.nanoTime();
+    }
+
+    /**
+     * Evicts the presenters according to the eviction policy if it may evict presenters.
+     */
+    private void evictIfNeeded() {
+        if (mEvictionPolicy.isBounded()) {
+            evict();
+        }
+    }
+
+    /**
+     * <p>Evicts the detached presenters exceeding the eviction policy limits : presenters detached for longer than the max idle
+     * time, then the least recently detached presenters while the cache holds more presenters than the max size.</p>
+     * <p>Evicted presenters are removed from the cache and destroyed on the calling thread.</p>
+     */
+    public void evict() {
+        long now = now() - mClockOrigin;
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (Entry entry : mPresenterToId.values()) {
+            long detachedAt = entry.mDetachedAt.get();
+            if (detachedAt >= 0) {
+                candidates.add(new Candidate(entry, detachedAt));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+        Collections.sort(candidates, LEAST_RECENTLY_DETACHED);
+
+        int excess = mPresenterToId.size() - mEvictionPolicy.getMaxSize();
+        for (Candidate candidate : candidates) {
+            EvictionPolicy.Reason reason;
+            if (now - candidate.mDetachedAt > mEvictionPolicy.getMaxIdleTimeNanos()) {
+                reason = EvictionPolicy.Reason.IDLE;
+            } else if (excess > 0) {
+                reason = EvictionPolicy.Reason.SIZE;
+            } else {
+                // Next candidates have been detached more recently
+                break;
+            }
+
+            if (evict(candidate, reason)) {
+                excess--;
+            }
+        }
+    }
+
+    /**
+     * <p>Trims the memory used by the cached presenters, this method should be called from
+     * {@link ComponentCallbacks2#onTrimMemory(int)} of the application.</p>
+     * <ul>
+     * <li>From {@link ComponentCallbacks2#TRIM_MEMORY_MODERATE} level or on {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_CRITICAL}
+     * level, every detached presenter is evicted.</li>
+     * <li>From {@link ComponentCallbacks2#TRIM_MEMORY_BACKGROUND} level or on {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_LOW}
+     * level, the eviction policy is applied.</li>
+     * </ul>
+     * <p>The trim level is then passed to the remaining presenters with {@link Presenter#trimMemory(int)}.</p>
+     *
+     * @param level Trim level.
+     */
+    public void trimMemory(int level) {
+        MVPLogger.dFormat(TAG, "Trim memory level %s", level);
+
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            for (Entry entry : mPresenterToId.values()) {
+                long detachedAt = entry.mDetachedAt.get();
+                if (detachedAt >= 0) {
+                    evict(new Candidate(entry, detachedAt), EvictionPolicy.Reason.MEMORY);
+                }
+            }
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            evictIfNeeded();
+        }
+
+        for (Entry entry : mPresenterToId.values()) {
+            entry.mPresenter.trimMemory(level);
+        }
+    }
+
+    /**
+     * Evicts a candidate if it has not been used since it was selected.
+     *
+     * @param candidate Candidate to evict.
+     * @param reason    Reason of the eviction.
+     * @return True if the presenter has been evicted.
+     */
+    private boolean evict(Candidate candidate, EvictionPolicy.Reason reason) {
+        Entry entry = candidate.mEntry;
+        if (!entry.mDetachedAt.compareAndSet(candidate.mDetachedAt, EVICTED) || !mPresenterToId.remove(entry.mPresenter, entry)) {
+            return false;
+        }
+        mIdToPresenter.remove(entry.mId, entry);
+
+        if (MVPLogger.isLoggable(MVPLogger.DEBUG)) {
+            MVPLogger.dFormat(TAG, "Evicting presenter %s from cache (%s)", entry.mPresenter.getClass().getSimpleName(), reason);
+        }
 
-        mIdToPresenter.remove(mPresenterToId.get(presenter));
+        entry.mPresenter.destroy();
+
+        OnEvictionListener listener = mOnEvictionListener;
+        if (listener != null) {
+            listener.onPresenterEvicted(entry.mId, entry.mPresenter, reason);
+        }
+        return true;
     }
 
     /**
      * Removes all the presenter from the cache.
      */
     public void clear() {
-        mPresenterToId.clear();
-        mIdToPresenter.clear();
+        for (Entry entry : mPresenterToId.values()) {
+            if (mPresenterToId.remove(entry.mPresenter, entry)) {
+                mIdToPresenter.remove(entry.mId, entry);
+            }
+        }
+    }
+
+    /**
+     * Listener notified of the evicted presenters.
+     */
+    public interface OnEvictionListener {
+
+        /**
+         * Called once a presenter has been evicted and destroyed.
+         *
+         * @param id        Id of the evicted presenter.
+         * @param presenter Evicted presenter.
+         * @param reason    Reason of the eviction.
+         */
+        void onPresenterEvicted(@NonNull String id, @NonNull Presenter presenter, @NonNull EvictionPolicy.Reason reason);
+    }
+
+    /**
+     * A cache entry shared by both directions of the cache.
+     */
+    private static final class Entry {
+
+        private final String mId;
+
+        private final Presenter mPresenter;
+
+        /**
+         * Time the view was detached, {@link #IN_USE} or {@link #EVICTED}.
+         */
+        private final AtomicLong mDetachedAt = new AtomicLong(IN_USE);
+
+        /**
+         * Constructor.
+         *
+         * @param id        Presenter id.
+         * @param presenter Presenter.
+         */
+        private Entry(String id, Presenter presenter) {
+            mId = id;
+            mPresenter = presenter;
+        }
+
+        /**
+         * Marks the presenter in use.
+         *
+         * @return False if the presenter has been evicted.
+         */
+        private boolean markInUse() {
+            while (true) {
+                long detachedAt = mDetachedAt.get();
+                if (detachedAt == EVICTED) {
+                    return false;
+                }
+                if (detachedAt == IN_USE || mDetachedAt.compareAndSet(detachedAt, IN_USE)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Marks the presenter detached.
+         *
+         * @param now Current time.
+         * @return False if the presenter has been evicted.
+         */
+        private boolean markDetached(long now) {
+            while (true) {
+                long detachedAt = mDetachedAt.get();
+                if (detachedAt == EVICTED) {
+                    return false;
+                }
+                if (mDetachedAt.compareAndSet(detachedAt, now)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * A detached presenter which may be evicted.
+     */
+    private static final class Candidate {
+
+        private final Entry mEntry;
+
+        /**
+         * Detach time when the candidate was selected.
+         */
+        private final long mDetachedAt;
+
+        /**
+         * Constructor.
+         *
+         * @param entry      Cache entry.
+         * @param detachedAt Detach time.
+         */
+        private Candidate(Entry entry, long detachedAt) {
+            mEntry = entry;
+            mDetachedAt = detachedAt;
+        }
     }
 }
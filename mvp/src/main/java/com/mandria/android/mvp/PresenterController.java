@@ -2,9 +2,20 @@ package com.mandria.android.mvp;
 
 import android.os.Bundle;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 /**
- * A controller to manage presenter lifecycle.
+ * <p>A controller to manage presenter lifecycle.</p>
+ * <p>The presenter state is saved in the controller bundle, or in a {@link PresenterStateStore} if one is given to keep the saved
+ * instance state small.</p>
+ * <p>The lifecycle transitions of the presenter are timed and reported to the {@link PresenterMetrics} listener if any.</p>
+ * <p>With a creation executor, the presenter is instantiated and created on this executor from {@link #preparePresenter()} while
+ * the view inflates its layout, and the view is attached once the presenter is ready. {@link #instantiatePresenter()} and
+ * {@link Presenter#onCreate(Bundle)} must then be safe to call from a background thread.</p>
  */
 public abstract class PresenterController<P extends Presenter> {
 
@@ -14,21 +25,80 @@ public abstract class PresenterController<P extends Presenter> {
 
     private static final String PRESENTER_ID_KEY = "com.mandria.android.mvp.presenter.id";
 
+    private static final String PRESENTER_SNAPSHOT_KEY = "com.mandria.android.mvp.presenter.snapshot";
+
+    /**
+     * Executor creating the presenters of all the controllers which do not define their own executor.
+     */
+    private static volatile Executor sDefaultCreationExecutor;
+
     private final PresenterCache mPresenterCache;
 
+    private final PresenterStateStore mStateStore;
+
     private P mPresenter;
 
     private Bundle mBundle;
 
     private boolean mPresenterHasView;
 
+    private Future<Bundle> mSnapshot;
+
+    private String mSnapshotId;
+
+    private Executor mCreationExecutor;
+
+    private PresenterCreation<P> mCreation;
+
+    private Object mPendingView;
+
     /**
      * Constructor.
      *
      * @param presenterCache The presenter cache to use.
      */
     public PresenterController(PresenterCache presenterCache) {
+        this(presenterCache, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param presenterCache The presenter cache to use.
+     * @param stateStore     The store of the presenter state, null to save it in the controller bundle.
+     */
+    public PresenterController(PresenterCache presenterCache, @Nullable PresenterStateStore stateStore) {
         mPresenterCache = presenterCache;
+        mStateStore = stateStore;
+    }
+
+    /**
+     * Sets the executor creating the presenters of all the controllers which do not define their own executor.
+     *
+     * @param executor Default creation executor, null to create the presenters on the main thread.
+     */
+    public static void setDefaultCreationExecutor(@Nullable Executor executor) {
+        sDefaultCreationExecutor = executor;
+    }
+
+    /**
+     * Sets the executor creating the presenter, it should be set before {@link #preparePresenter()} is called.
+     *
+     * @param executor Creation executor, null to use the default creation executor.
+     */
+    public void setCreationExecutor(@Nullable Executor executor) {
+        mCreationExecutor = executor;
+    }
+
+    /**
+     * Gets the executor creating the presenter.
+     *
+     * @return The executor of this controller if any, else the default creation executor, null to create the presenter on the
+     * main thread.
+     */
+    @Nullable
+    private Executor getCreationExecutor() {
+        return mCreationExecutor != null ? mCreationExecutor : sDefaultCreationExecutor;
     }
 
     /**
@@ -51,13 +121,109 @@ public abstract class PresenterController<P extends Presenter> {
      */
     private void createPresenter() {
         if (mPresenter == null) {
-            mPresenter = instantiatePresenter();
+            mPresenter = newPresenter(mBundle, mSnapshot);
             mPresenterCache.savePresenter(mPresenter);
-            // Passes presenter bundle if available
-            mPresenter.create(mBundle == null ? null : mBundle.getBundle(PRESENTER_BUNDLE_KEY));
         }
 
         mBundle = null;
+        mSnapshot = null;
+    }
+
+    /**
+     * Instantiates a presenter and performs the call to {@link Presenter#create(Bundle)}, the caller stores it in the cache.
+     * Can be called from the creation executor.
+     *
+     * @param controllerBundle Controller bundle, null if there is none.
+     * @param snapshot         Snapshot being loaded by the state store, null if there is none.
+     * @return The created presenter.
+     */
+    @NonNull
+    private P newPresenter(@Nullable Bundle controllerBundle, @Nullable Future<Bundle> snapshot) {
+        long start = PresenterMetrics.begin();
+        P presenter = instantiatePresenter();
+        PresenterMetrics.end(presenter, PresenterMetrics.Transition.INSTANTIATE, start);
+        // Passes presenter bundle if available
+        start = PresenterMetrics.begin();
+        presenter.create(getPresenterBundle(presenter, controllerBundle, snapshot));
+        PresenterMetrics.end(presenter, PresenterMetrics.Transition.CREATE, start);
+        return presenter;
+    }
+
+    /**
+     * Gets the presenter bundle from the controller bundle or from the snapshot being loaded by the state store.
+     *
+     * @param presenter        Presenter to create.
+     * @param controllerBundle Controller bundle, null if there is none.
+     * @param snapshot         Snapshot being loaded by the state store, null if there is none.
+     * @return The presenter bundle, null if there is none.
+     */
+    @Nullable
+    private static Bundle getPresenterBundle(@NonNull Presenter presenter, @Nullable Bundle controllerBundle,
+            @Nullable Future<Bundle> snapshot) {
+        if (controllerBundle == null) {
+            return null;
+        }
+
+        Bundle presenterBundle = controllerBundle.getBundle(PRESENTER_BUNDLE_KEY);
+        if (presenterBundle == null && snapshot != null) {
+            presenterBundle = PresenterStateStore.get(snapshot);
+            if (presenterBundle != null) {
+                presenterBundle.setClassLoader(presenter.getClass().getClassLoader());
+            }
+        }
+        return presenterBundle;
+    }
+
+    /**
+     * <p>Starts the creation of the presenter on the creation executor if any and if the presenter is not in the cache, it should be
+     * called once the state is restored.<br>
+     * Without creation executor, the presenter is created on the main thread the first time it is needed.</p>
+     */
+    public void preparePresenter() {
+        final Executor executor = getCreationExecutor();
+        if (executor == null || mCreation != null || loadPresenterFromCache()) {
+            return;
+        }
+
+        final Bundle controllerBundle = mBundle;
+        final Future<Bundle> snapshot = mSnapshot;
+        mBundle = null;
+        mSnapshot = null;
+        mCreation = new PresenterCreation<>(executor, new Callable<P>() {
+            @Override
+            public P call() {
+                return newPresenter(controllerBundle, snapshot);
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                onPresenterCreated();
+            }
+        });
+    }
+
+    /**
+     * Attaches the view whose attach has been deferred until the presenter is created, called on the main thread.
+     */
+    private void onPresenterCreated() {
+        if (mCreation != null && mPendingView != null) {
+            Object view = mPendingView;
+            mPendingView = null;
+            attachViewToPresenter(view);
+        }
+    }
+
+    /**
+     * Waits for the presenter being created on the creation executor if any and stores it in the cache.
+     */
+    private void awaitPresenterCreation() {
+        if (mCreation != null) {
+            PresenterCreation<P> creation = mCreation;
+            mCreation = null;
+            mPresenter = creation.get();
+            // Stored on the main thread as storing a presenter may evict and destroy other presenters
+            mPresenterCache.savePresenter(mPresenter);
+        }
     }
 
     /**
@@ -66,6 +232,7 @@ public abstract class PresenterController<P extends Presenter> {
      * </p>
      */
     private void createPresenterIfNeeded() {
+        awaitPresenterCreation();
         if (!loadPresenterFromCache()) {
             createPresenter();
         }
@@ -73,12 +240,14 @@ public abstract class PresenterController<P extends Presenter> {
 
     /**
      * <p>Gets the presenter.<br>
-     * Creates the presenter on the first time this method is called.
+     * Creates the presenter on the first time this method is called, or waits for its creation on the creation executor.
      * </p>
      *
      * @return The presenter.
      */
     public P getPresenter() {
+        awaitPresenterCreation();
+        releaseDestroyedPresenter();
         createPresenterIfNeeded();
         return mPresenter;
     }
@@ -89,46 +258,88 @@ public abstract class PresenterController<P extends Presenter> {
      * @return A bundle with presenter state.
      */
     public Bundle onSaveInstanceState() {
-        createPresenterIfNeeded();
+        awaitPresenterCreation();
+        if (!releaseDestroyedPresenter()) {
+            createPresenterIfNeeded();
+        }
 
         Bundle controllerBundle = new Bundle();
         if (mPresenter != null) {
 
-            // Stores the presenter bundle in this controller bundle
             Bundle presenterBundle = new Bundle();
             mPresenter.save(presenterBundle);
-            controllerBundle.putBundle(PRESENTER_BUNDLE_KEY, presenterBundle);
+            String id = mPresenterCache.getId(mPresenter);
+
+            if (mStateStore != null && id != null) {
+                // Writes the presenter bundle in the background and only stores its id in this controller bundle
+                mStateStore.save(id, mPresenter.getClass(), presenterBundle);
+                if (mSnapshotId != null && !mSnapshotId.equals(id)) {
+                    mStateStore.remove(mSnapshotId);
+                }
+                mSnapshotId = id;
+                controllerBundle.putString(PRESENTER_SNAPSHOT_KEY, id);
+            } else {
+                // Stores the presenter bundle in this controller bundle
+                controllerBundle.putBundle(PRESENTER_BUNDLE_KEY, presenterBundle);
+            }
 
             // Saves the presenter id in the bundle to reattach the view to the presenter
-            controllerBundle.putString(PRESENTER_ID_KEY, mPresenterCache.getId(mPresenter));
+            controllerBundle.putString(PRESENTER_ID_KEY, id);
         }
         return controllerBundle;
     }
 
     /**
-     * Allows the presenter to restore its state.
+     * <p>Allows the presenter to restore its state.<br>
+     * If the presenter state has been saved in the state store and the presenter is not in cache anymore, its snapshot starts
+     * loading in the background.</p>
      *
      * @param presenterState Bundle with the presenter state.
      */
     public void onRestoreInstanceState(Bundle presenterState) {
         mBundle = presenterState;
+        if (mStateStore != null && presenterState != null) {
+            String snapshotId = presenterState.getString(PRESENTER_SNAPSHOT_KEY);
+            if (snapshotId != null) {
+                mSnapshotId = snapshotId;
+                if (!loadPresenterFromCache()) {
+                    mSnapshot = mStateStore.load(snapshotId);
+                }
+            }
+        }
     }
 
     /**
-     * Attaches the view to the presenter.
+     * Attaches the view to the presenter, or once the presenter is created if it is being created on the creation executor.
      *
      * @param view View to attache.
      */
     @SuppressWarnings("unchecked")
     public void attachViewToPresenter(@NonNull Object view) {
-        boolean presenterCreated = mPresenter != null;
+        boolean createdByExecutor = mCreation != null;
+        if (createdByExecutor && !mCreation.isDone()) {
+            // Attached on the main thread once the presenter is created
+            mPendingView = view;
+            return;
+        }
+        awaitPresenterCreation();
+
+        if (mPresenter != null && !mPresenterHasView && !mPresenterCache.markViewAttached(mPresenter)) {
+            // The presenter has been evicted from the cache while the view was detached
+            mPresenter = null;
+        }
+        boolean presenterCreated = mPresenter != null && !createdByExecutor;
         getPresenter();
         if (mPresenter != null && !mPresenterHasView) {
             if (mPresenter.getView() == null) {
+                long start = PresenterMetrics.begin();
                 mPresenter.attachView(view);
+                PresenterMetrics.end(mPresenter, PresenterMetrics.Transition.ATTACH_VIEW, start);
                 mPresenterHasView = true;
                 if (!presenterCreated) {
+                    start = PresenterMetrics.begin();
                     mPresenter.onCreatedThenAttached();
+                    PresenterMetrics.end(mPresenter, PresenterMetrics.Transition.CREATED_THEN_ATTACHED, start);
                 }
             }
         }
@@ -140,19 +351,58 @@ public abstract class PresenterController<P extends Presenter> {
      * @param destroy True if the {@link Presenter#destroy()} should be called..
      */
     public void detachViewFromPresenter(boolean destroy) {
+        mPendingView = null;
+        if (destroy) {
+            awaitPresenterCreation();
+        }
+        releaseDestroyedPresenter();
+
         if (mPresenter != null) {
             if (mPresenterHasView) {
+                long start = PresenterMetrics.begin();
                 mPresenter.detachView();
+                PresenterMetrics.end(mPresenter, PresenterMetrics.Transition.DETACH_VIEW, start);
                 mPresenterHasView = false;
+                if (!destroy) {
+                    mPresenterCache.markViewDetached(mPresenter);
+                }
             }
             if (destroy) {
+                long start = PresenterMetrics.begin();
                 mPresenter.destroy();
+                PresenterMetrics.end(mPresenter, PresenterMetrics.Transition.DESTROY, start);
                 mPresenterCache.removePresenter(mPresenter);
                 mPresenter = null;
+                removeSnapshot();
             }
         }
     }
 
+    /**
+     * <p>Releases the presenter if it has been destroyed while the view was detached, i.e. evicted from the cache.<br>
+     * The destroyed presenter is neither saved nor destroyed again, a new one is created when the view is attached.</p>
+     *
+     * @return True if the presenter has been released.
+     */
+    private boolean releaseDestroyedPresenter() {
+        if (mPresenter != null && !mPresenterHasView && mPresenter.isDestroyed()) {
+            mPresenter = null;
+            removeSnapshot();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the snapshot of the presenter state from the state store.
+     */
+    private void removeSnapshot() {
+        if (mStateStore != null && mSnapshotId != null) {
+            mStateStore.remove(mSnapshotId);
+            mSnapshotId = null;
+        }
+    }
+
     /**
      * Calls the {@link Presenter#destroy()} method.
      */
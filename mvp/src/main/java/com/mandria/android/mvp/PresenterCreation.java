@@ -0,0 +1,83 @@
+package com.mandria.android.mvp;
+
+import android.support.annotation.NonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import io.reactivex.android.schedulers.AndroidSchedulers;
+
+/**
+ * <p>Creation of a presenter, i.e. its instantiation and {@link Presenter#create(android.os.Bundle)} call, running on a background
+ * executor while the view inflates its layout.</p>
+ * <p>Once the presenter is created, a callback is posted to the main thread with {@link AndroidSchedulers#mainThread()}, e.g. to
+ * attach the view whose attach has been deferred until the presenter is ready.</p>
+ *
+ * @param <P> Presenter type.
+ */
+public final class PresenterCreation<P extends Presenter> {
+
+    private final FutureTask<P> mTask;
+
+    /**
+     * Constructor, the creation is submitted to the executor right away.
+     *
+     * @param executor  Executor running the creation.
+     * @param creator   Instantiates and creates the presenter.
+     * @param onCreated Called on the main thread once the creation is done, whether it succeeded or failed.
+     */
+    public PresenterCreation(@NonNull Executor executor, @NonNull Callable<P> creator, @NonNull final Runnable onCreated) {
+        mTask = new FutureTask<P>(creator) {
+            @Override
+            protected void done() {
+                AndroidSchedulers.mainThread().scheduleDirect(onCreated);
+            }
+        };
+        executor.execute(mTask);
+    }
+
+    /**
+     * Gets if the creation is done.
+     *
+     * @return True if the presenter is created or its creation failed.
+     */
+    public boolean isDone() {
+        return mTask.isDone();
+    }
+
+    /**
+     * Gets the presenter, waiting for its creation if needed.
+     *
+     * @return The created presenter.
+     * @throws RuntimeException The exception thrown by the creation if it failed.
+     */
+    @NonNull
+    public P get() {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return mTask.get();
+                } catch (InterruptedException e) {
+                    // The presenter is required, interruption is restored once it is created
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Presenter creation failed", cause);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.mandria.android.mvp;
+
+import android.support.annotation.NonNull;
+
+/**
+ * <p>Generates the ids of the presenters saved in the {@link PresenterCache}.</p>
+ * <p>Ids are stored in the saved state of the views, so an id should never be generated twice, even across process restarts.</p>
+ */
+public interface PresenterIdGenerator {
+
+    /**
+     * Generates a new id.
+     *
+     * @param presenter Presenter to generate the id for.
+     * @return A unique id.
+     */
+    @NonNull
+    String generateId(@NonNull Presenter presenter);
+}
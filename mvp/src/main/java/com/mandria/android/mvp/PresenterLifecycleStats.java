@@ -0,0 +1,146 @@
+package com.mandria.android.mvp;
+
+import android.support.annotation.NonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A metrics listener aggregating the count, total and max durations of the lifecycle transitions per presenter class.</p>
+ * <p>This class is thread safe and lock free, e.g. to be dumped periodically or when the first frame is drawn.</p>
+ */
+public final class PresenterLifecycleStats implements PresenterMetrics.Listener {
+
+    private static final PresenterMetrics.Transition[] TRANSITIONS = PresenterMetrics.Transition.values();
+
+    private final ConcurrentHashMap<Class<? extends Presenter>, Stat[]> mStats = new ConcurrentHashMap<>();
+
+    @Override
+    public void onTransition(@NonNull Class<? extends Presenter> presenterClass, @NonNull PresenterMetrics.Transition transition,
+            long durationNanos) {
+        Stat[] stats = mStats.get(presenterClass);
+        if (stats == null) {
+            stats = new Stat[TRANSITIONS.length];
+            for (int i = 0; i < stats.length; i++) {
+                stats[i] = new Stat();
+            }
+            Stat[] previous = mStats.putIfAbsent(presenterClass, stats);
+            if (previous != null) {
+                stats = previous;
+            }
+        }
+        stats[transition.ordinal()].add(durationNanos);
+    }
+
+    /**
+     * Gets the presenter classes which went through at least one transition.
+     *
+     * @return The presenter classes.
+     */
+    @NonNull
+    public Set<Class<? extends Presenter>> getPresenterClasses() {
+        return new HashSet<>(mStats.keySet());
+    }
+
+    /**
+     * Gets the number of transitions of a presenter class.
+     *
+     * @param presenterClass Presenter class.
+     * @param transition     Transition.
+     * @return The number of transitions.
+     */
+    public long getCount(@NonNull Class<? extends Presenter> presenterClass, @NonNull PresenterMetrics.Transition transition) {
+        Stat stat = getStat(presenterClass, transition);
+        return stat == null ? 0 : stat.mCount.get();
+    }
+
+    /**
+     * Gets the total duration of the transitions of a presenter class.
+     *
+     * @param presenterClass Presenter class.
+     * @param transition     Transition.
+     * @return The total duration in nanoseconds.
+     */
+    public long getTotalTimeNanos(@NonNull Class<? extends Presenter> presenterClass,
+            @NonNull PresenterMetrics.Transition transition) {
+        Stat stat = getStat(presenterClass, transition);
+        return stat == null ? 0 : stat.mTotalNanos.get();
+    }
+
+    /**
+     * Gets the longest duration of the transitions of a presenter class.
+     *
+     * @param presenterClass Presenter class.
+     * @param transition     Transition.
+     * @return The max duration in nanoseconds.
+     */
+    public long getMaxTimeNanos(@NonNull Class<? extends Presenter> presenterClass, @NonNull PresenterMetrics.Transition transition) {
+        Stat stat = getStat(presenterClass, transition);
+        return stat == null ? 0 : stat.mMaxNanos.get();
+    }
+
+    /**
+     * Clears all the stats.
+     */
+    public void reset() {
+        mStats.clear();
+    }
+
+    /**
+     * Gets the stat of a transition of a presenter class.
+     *
+     * @param presenterClass Presenter class.
+     * @param transition     Transition.
+     * @return The stat, null if the presenter class never went through a transition.
+     */
+    private Stat getStat(Class<? extends Presenter> presenterClass, PresenterMetrics.Transition transition) {
+        Stat[] stats = mStats.get(presenterClass);
+        return stats == null ? null : stats[transition.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Class<? extends Presenter> presenterClass : getPresenterClasses()) {
+            builder.append(presenterClass.getSimpleName()).append(':');
+            for (PresenterMetrics.Transition transition : TRANSITIONS) {
+                long count = getCount(presenterClass, transition);
+                if (count > 0) {
+                    builder.append(' ').append(transition).append(" x").append(count)
+                            .append(" avg ").append(getTotalTimeNanos(presenterClass, transition) / count / 1000).append("us")
+                            .append(" max ").append(getMaxTimeNanos(presenterClass, transition) / 1000).append("us");
+                }
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Stat of a transition.
+     */
+    private static final class Stat {
+
+        private final AtomicLong mCount = new AtomicLong();
+
+        private final AtomicLong mTotalNanos = new AtomicLong();
+
+        private final AtomicLong mMaxNanos = new AtomicLong();
+
+        /**
+         * Adds a transition.
+         *
+         * @param durationNanos Duration of the transition in nanoseconds.
+         */
+        private void add(long durationNanos) {
+            mCount.incrementAndGet();
+            mTotalNanos.addAndGet(durationNanos);
+            long max;
+            do {
+                max = mMaxNanos.get();
+            } while (durationNanos > max && !mMaxNanos.compareAndSet(max, durationNanos));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.mandria.android.mvp;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * <p>Reports how long the lifecycle transitions of the presenters take, to find the slow presenters delaying the first frame.</p>
+ * <p>The presenter controllers time each transition and report it to the listener set with {@link #setListener(Listener)}. When
+ * no listener is set, the clock is not even read and the only cost of a transition is a volatile read.</p>
+ */
+public final class PresenterMetrics {
+
+    /**
+     * Start time of a transition which is not timed.
+     */
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private static volatile Listener sListener;
+
+    /**
+     * Lifecycle transitions of a presenter.
+     */
+    public enum Transition {
+        /**
+         * The presenter is instantiated by the controller or the factory.
+         */
+        INSTANTIATE,
+        /**
+         * {@link Presenter#create(android.os.Bundle)}.
+         */
+        CREATE,
+        /**
+         * {@link Presenter#attachView(Object)}.
+         */
+        ATTACH_VIEW,
+        /**
+         * {@link Presenter#onCreatedThenAttached()}.
+         */
+        CREATED_THEN_ATTACHED,
+        /**
+         * {@link Presenter#detachView()}.
+         */
+        DETACH_VIEW,
+        /**
+         * {@link Presenter#destroy()}.
+         */
+        DESTROY
+    }
+
+    private PresenterMetrics() {
+        // Static class
+    }
+
+    /**
+     * Sets the listener of the lifecycle transitions of all the presenters.
+     *
+     * @param listener Listener, null to stop timing the transitions.
+     */
+    public static void setListener(@Nullable Listener listener) {
+        sListener = listener;
+    }
+
+    /**
+     * Starts timing a transition, used by the presenter controllers.
+     *
+     * @return The start time to give to {@link #end(Presenter, Transition, long)}.
+     */
+    public static long begin() {
+        return sListener == null ? NOT_TIMED : System.nanoTime();
+    }
+
+    /**
+     * Ends timing a transition and reports it, used by the presenter controllers.
+     *
+     * @param presenter  Presenter.
+     * @param transition Transition.
+     * @param start      Start time returned by {@link #begin()}.
+     */
+    public static void end(@NonNull Presenter presenter, @NonNull Transition transition, long start) {
+        if (start != NOT_TIMED) {
+            long duration = System.nanoTime() - start;
+            Listener listener = sListener;
+            if (listener != null) {
+                listener.onTransition(presenter.getClass(), transition, duration);
+            }
+        }
+    }
+
+    /**
+     * Listener of the lifecycle transitions, see {@link PresenterLifecycleStats} to aggregate them.
+     */
+    public interface Listener {
+
+        /**
+         * Called on the thread of the transition, usually the main thread, once it is done.
+         *
+         * @param presenterClass Presenter class.
+         * @param transition     Transition.
+         * @param durationNanos  Duration of the transition in nanoseconds.
+         */
+        void onTransition(@NonNull Class<? extends Presenter> presenterClass, @NonNull Transition transition, long durationNanos);
+    }
+}
@@ -0,0 +1,287 @@
+package com.mandria.android.mvp;
+
+import android.os.Bundle;
+import android.os.Parcel;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A store saving the presenter states on disk instead of the saved instance state of the views.</p>
+ * <p>This class should be a singleton or used with a dependency injector to be injected as an application singleton, e.g. with a
+ * sub directory of the application files directory.</p>
+ * <p>When a {@link PresenterController} uses a state store, the presenter bundle is marshalled on the main thread and written to a
+ * snapshot file keyed by the presenter id on a background thread, and only the presenter id is put in the saved instance state.
+ * This keeps the saved instance state small whatever the presenter state size, and the main thread never waits for the disk. The
+ * presenter can keep modifying the values put in its bundle once saved, as they are marshalled before the save returns.</p>
+ * <p>The snapshots are read back on a background thread as soon as the view state is restored, and removed when the presenter
+ * is destroyed or saved again with another id. The size of each snapshot is reported to an {@link OnStateSavedListener} and a
+ * warning is logged when it exceeds the size budget.</p>
+ * <p>The snapshots of presenters which are never restored nor destroyed, e.g. when the user leaves the application from the recent
+ * tasks, are left on disk. They are removed once older than the max age of the store when the store is created, so the max age
+ * should be longer than the time a task is expected to stay in the recent tasks.</p>
+ */
+public final class PresenterStateStore {
+
+    private static final String TAG = "PresenterStateStore";
+
+    /**
+     * Default size budget of a snapshot in bytes.
+     */
+    public static final int DEFAULT_SIZE_BUDGET = 100 * 1024;
+
+    /**
+     * Default max age of a snapshot in milliseconds.
+     */
+    public static final long DEFAULT_MAX_AGE = TimeUnit.DAYS.toMillis(7);
+
+    private final AtomicFileStore mFiles;
+
+    private final Executor mExecutor;
+
+    private final int mSizeBudget;
+
+    private volatile OnStateSavedListener mOnStateSavedListener;
+
+    /**
+     * Constructor, snapshots are written on a dedicated background thread with the default size budget and max age.
+     *
+     * @param directory Directory of the snapshots, created if needed.
+     */
+    public PresenterStateStore(@NonNull File directory) {
+        this(directory, Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(@NonNull Runnable runnable) {
+                Thread thread = new Thread(runnable, TAG);
+                thread.setDaemon(true);
+                return thread;
+            }
+        }), DEFAULT_SIZE_BUDGET);
+    }
+
+    /**
+     * Constructor with the default max age.
+     *
+     * @param directory  Directory of the snapshots, created if needed.
+     * @param executor   Executor writing and reading the snapshots, it must run its tasks one at a time in submission order.
+     * @param sizeBudget Size in bytes above which a snapshot is reported as over budget.
+     */
+    public PresenterStateStore(@NonNull File directory, @NonNull Executor executor, int sizeBudget) {
+        this(directory, executor, sizeBudget, DEFAULT_MAX_AGE, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Constructor, the snapshots older than the max age are removed in the background.
+     *
+     * @param directory  Directory of the snapshots, created if needed.
+     * @param executor   Executor writing and reading the snapshots, it must run its tasks one at a time in submission order.
+     * @param sizeBudget Size in bytes above which a snapshot is reported as over budget.
+     * @param maxAge     Time since its last save after which a snapshot is removed when a store is created.
+     * @param unit       Max age unit.
+     */
+    public PresenterStateStore(@NonNull File directory, @NonNull Executor executor, int sizeBudget, long maxAge,
+            @NonNull TimeUnit unit) {
+        if (sizeBudget <= 0) {
+            throw new IllegalArgumentException("Size budget must be positive");
+        }
+        if (maxAge <= 0) {
+            throw new IllegalArgumentException("Max age must be positive");
+        }
+        mFiles = new AtomicFileStore(directory);
+        mExecutor = executor;
+        mSizeBudget = sizeBudget;
+        removeOlderThan(unit.toMillis(maxAge));
+    }
+
+    /**
+     * Sets the listener notified with the size of each saved snapshot, it is called on the thread writing the snapshots.
+     *
+     * @param listener Listener, null to remove it.
+     */
+    public void setOnStateSavedListener(@Nullable OnStateSavedListener listener) {
+        mOnStateSavedListener = listener;
+    }
+
+    /**
+     * Saves the state of a presenter, marshalled on the calling thread and written in the background, used by the presenter
+     * controllers.
+     *
+     * @param id             Presenter id.
+     * @param presenterClass Presenter class, for the size report.
+     * @param state          Presenter state.
+     */
+    public void save(@NonNull final String id, @NonNull final Class<? extends Presenter> presenterClass,
+            @NonNull Bundle state) {
+        final byte[] data;
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.writeBundle(state);
+            data = parcel.marshall();
+        } catch (RuntimeException e) {
+            MVPLogger.e(TAG, "Cannot marshall the state of presenter " + id, e);
+            return;
+        } finally {
+            parcel.recycle();
+        }
+
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    mFiles.write(id, data);
+                } catch (IOException e) {
+                    MVPLogger.e(TAG, "Cannot write the state of presenter " + id, e);
+                    return;
+                }
+
+                boolean overBudget = data.length > mSizeBudget;
+                if (overBudget && MVPLogger.isLoggable(MVPLogger.WARN)) {
+                    MVPLogger.wFormat(TAG, "State of %s is %s bytes, over the size budget", presenterClass.getSimpleName(),
+                            data.length);
+                }
+
+                OnStateSavedListener listener = mOnStateSavedListener;
+                if (listener != null) {
+                    listener.onStateSaved(id, presenterClass, data.length, overBudget);
+                }
+            }
+        });
+    }
+
+    /**
+     * Loads the state of a presenter in the background.
+     *
+     * @param id Presenter id.
+     * @return The future state, null if there is no snapshot or if it cannot be read.
+     */
+    @NonNull
+    public Future<Bundle> load(@NonNull final String id) {
+        FutureTask<Bundle> task = new FutureTask<>(new Callable<Bundle>() {
+            @Override
+            public Bundle call() {
+                byte[] data;
+                try {
+                    data = mFiles.read(id);
+                } catch (IOException e) {
+                    MVPLogger.e(TAG, "Cannot read the state of presenter " + id, e);
+                    return null;
+                }
+                if (data == null) {
+                    return null;
+                }
+
+                Parcel parcel = Parcel.obtain();
+                try {
+                    parcel.unmarshall(data, 0, data.length);
+                    parcel.setDataPosition(0);
+                    return parcel.readBundle(PresenterStateStore.class.getClassLoader());
+                } catch (RuntimeException e) {
+                    MVPLogger.e(TAG, "Cannot unmarshall the state of presenter " + id, e);
+                    return null;
+                } finally {
+                    parcel.recycle();
+                }
+            }
+        });
+        mExecutor.execute(task);
+        return task;
+    }
+
+    /**
+     * Waits for a state loaded with {@link #load(String)}.
+     *
+     * @param state Future state.
+     * @return The state, null if there is none.
+     */
+    @Nullable
+    public static Bundle get(@NonNull Future<Bundle> state) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return state.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    MVPLogger.e(TAG, "Cannot load presenter state", e.getCause());
+                    return null;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Removes the state of a presenter in the background.
+     *
+     * @param id Presenter id.
+     */
+    public void remove(@NonNull final String id) {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                mFiles.delete(id);
+            }
+        });
+    }
+
+    /**
+     * Removes the snapshots older than the given age in the background.
+     *
+     * @param maxAge Max age in milliseconds.
+     */
+    private void removeOlderThan(final long maxAge) {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                // Snapshots are saved again each time their view is saved, an old snapshot is not referenced anymore
+                int removed = mFiles.deleteModifiedBefore(System.currentTimeMillis() - maxAge);
+                if (removed > 0 && MVPLogger.isLoggable(MVPLogger.DEBUG)) {
+                    MVPLogger.dFormat(TAG, "Removed %s snapshots older than %s ms", removed, maxAge);
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes all the snapshots in the background, e.g. when the application starts without any saved instance state.
+     */
+    public void clear() {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                mFiles.deleteModifiedBefore(Long.MAX_VALUE);
+            }
+        });
+    }
+
+    /**
+     * Listener of the saved presenter states.
+     */
+    public interface OnStateSavedListener {
+
+        /**
+         * Called when the state of a presenter has been written.
+         *
+         * @param presenterId    Presenter id.
+         * @param presenterClass Presenter class.
+         * @param size           Size of the snapshot in bytes.
+         * @param overBudget     True if the size exceeds the size budget of the store.
+         */
+        void onStateSaved(@NonNull String presenterId, @NonNull Class<? extends Presenter> presenterClass, int size,
+                boolean overBudget);
+    }
+}
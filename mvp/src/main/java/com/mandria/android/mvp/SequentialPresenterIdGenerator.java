@@ -0,0 +1,25 @@
+package com.mandria.android.mvp;
+
+import android.support.annotation.NonNull;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Default presenter id generator.</p>
+ * <p>Ids are made of a per process epoch followed by a sequence number. The epoch is built once from the process start time and a
+ * random number so that ids generated by a previous process, and stored in saved states, are never generated again.</p>
+ */
+public final class SequentialPresenterIdGenerator implements PresenterIdGenerator {
+
+    private static final String EPOCH = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX)
+            + "-" + Integer.toString(new Random().nextInt(Integer.MAX_VALUE), Character.MAX_RADIX) + "/";
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    @NonNull
+    @Override
+    public String generateId(@NonNull Presenter presenter) {
+        return EPOCH + Long.toString(SEQUENCE.incrementAndGet(), Character.MAX_RADIX);
+    }
+}
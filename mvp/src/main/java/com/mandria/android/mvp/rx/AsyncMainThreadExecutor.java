@@ -0,0 +1,28 @@
+package com.mandria.android.mvp.rx;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Message;
+import android.support.annotation.NonNull;
+
+import java.util.concurrent.Executor;
+
+/**
+ * <p>Executor posting the runnables to the main thread as asynchronous messages.</p>
+ * <p>Asynchronous messages are not held by the synchronization barriers of the view traversals, so results are delivered without
+ * waiting for the next frame. Messages are posted as regular messages before API 22.</p>
+ */
+final class AsyncMainThreadExecutor implements Executor {
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        Message message = Message.obtain(mHandler, command);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP_MR1) {
+            message.setAsynchronous(true);
+        }
+        mHandler.sendMessage(message);
+    }
+}
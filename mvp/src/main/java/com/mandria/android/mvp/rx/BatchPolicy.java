@@ -0,0 +1,184 @@
+package com.mandria.android.mvp.rx;
+
+import android.support.annotation.NonNull;
+import android.view.Choreographer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.android.schedulers.AndroidSchedulers;
+
+/**
+ * <p>Defines how the items of a task are coalesced before being delivered : the items emitted until the next frame or during a
+ * time window are delivered at once as a list, with a single main thread message instead of one message per item.</p>
+ * <p>Intended for tasks emitting bursts of items. Empty batches are never delivered and the terminal event is delivered after the
+ * last batch.</p>
+ */
+public final class BatchPolicy {
+
+    private static final BatchPolicy FRAME = new BatchPolicy(0, null, null);
+
+    private final long mWindow;
+
+    private final TimeUnit mUnit;
+
+    private final Scheduler mScheduler;
+
+    /**
+     * Constructor.
+     *
+     * @param window    Batch time window, 0 to batch per frame.
+     * @param unit      Time unit of the window.
+     * @param scheduler Scheduler delivering the batches, null for the main thread.
+     */
+    private BatchPolicy(long window, TimeUnit unit, Scheduler scheduler) {
+        mWindow = window;
+        mUnit = unit;
+        mScheduler = scheduler;
+    }
+
+    /**
+     * <p>Items are delivered with the next frame callback of the {@link Choreographer} of the main thread.</p>
+     * <p>The task can be subscribed from any thread, e.g. by a {@link TaskLimiter} : the choreographer is looked up on the main
+     * thread by the first delivery.</p>
+     *
+     * @return The frame batch policy.
+     */
+    @NonNull
+    public static BatchPolicy frame() {
+        return FRAME;
+    }
+
+    /**
+     * Items are delivered on the main thread once the given time window is elapsed since the first item of the batch.
+     *
+     * @param window Batch time window, must be positive.
+     * @param unit   Time unit of the window.
+     * @return A time window batch policy.
+     */
+    @NonNull
+    public static BatchPolicy window(long window, @NonNull TimeUnit unit) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window should be positive but was " + window);
+        }
+        return new BatchPolicy(window, unit, null);
+    }
+
+    /**
+     * Items are delivered on the given scheduler once the given time window is elapsed since the first item of the batch.
+     *
+     * @param window    Batch time window, must be positive.
+     * @param unit      Time unit of the window.
+     * @param scheduler Scheduler delivering the batches.
+     * @return A time window batch policy.
+     */
+    @NonNull
+    public static BatchPolicy window(long window, @NonNull TimeUnit unit, @NonNull Scheduler scheduler) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window should be positive but was " + window);
+        }
+        return new BatchPolicy(window, unit, scheduler);
+    }
+
+    /**
+     * Applies this policy to an observable.
+     *
+     * @param observable Observable.
+     * @param <T>        Observable type.
+     * @return An observable emitting the batches of items.
+     */
+    <T> Observable<List<T>> apply(Observable<T> observable) {
+        return new ObservableBatch<>(observable, this);
+    }
+
+    /**
+     * Creates the dispatcher of a subscription. Called on the thread subscribing to the batched observable.
+     *
+     * @return A new dispatcher.
+     */
+    Dispatcher createDispatcher() {
+        if (mWindow == 0) {
+            return new FrameDispatcher();
+        }
+        return new SchedulerDispatcher(mScheduler != null ? mScheduler : AndroidSchedulers.mainThread(), mWindow, mUnit);
+    }
+
+    @Override
+    public String toString() {
+        return mWindow == 0 ? "BatchPolicy frame" : String.format("BatchPolicy window : %s %s", mWindow, mUnit);
+    }
+
+    /**
+     * Runs the delivery of a batch.
+     */
+    interface Dispatcher {
+
+        /**
+         * Schedules the delivery of a batch.
+         *
+         * @param drain Runnable delivering the batch.
+         */
+        void dispatch(Runnable drain);
+    }
+
+    /**
+     * Dispatcher running the deliveries with the next frame.
+     */
+    private static final class FrameDispatcher implements Dispatcher {
+
+        /**
+         * Choreographer of the main thread, null until it is looked up on the main thread. {@link Choreographer#getInstance()}
+         * returns the choreographer of the calling thread and throws on a thread without looper.
+         */
+        private static volatile Choreographer sChoreographer;
+
+        @Override
+        public void dispatch(final Runnable drain) {
+            final Choreographer.FrameCallback callback = new Choreographer.FrameCallback() {
+                @Override
+                public void doFrame(long frameTimeNanos) {
+                    drain.run();
+                }
+            };
+
+            Choreographer choreographer = sChoreographer;
+            if (choreographer != null) {
+                choreographer.postFrameCallback(callback);
+                return;
+            }
+            AndroidSchedulers.mainThread().scheduleDirect(new Runnable() {
+                @Override
+                public void run() {
+                    Choreographer choreographer = Choreographer.getInstance();
+                    sChoreographer = choreographer;
+                    choreographer.postFrameCallback(callback);
+                }
+            });
+        }
+    }
+
+    /**
+     * Dispatcher running the deliveries on a scheduler after the time window.
+     */
+    private static final class SchedulerDispatcher implements Dispatcher {
+
+        private final Scheduler mScheduler;
+
+        private final long mWindow;
+
+        private final TimeUnit mUnit;
+
+        SchedulerDispatcher(Scheduler scheduler, long window, TimeUnit unit) {
+            mScheduler = scheduler;
+            mWindow = window;
+            mUnit = unit;
+        }
+
+        @Override
+        public void dispatch(Runnable drain) {
+            mScheduler.scheduleDirect(drain, mWindow, mUnit);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.mandria.android.mvp.rx;
+
+import android.support.annotation.NonNull;
+
+/**
+ * This interface receives the events of a stream bound to a typed <View> view.
+ * Events are only dispatched while a view is available.
+ */
+public interface BoundConsumer<View, Result> {
+
+    /**
+     * Called for each item emitted by the stream.
+     *
+     * @param view   The view attached when the item is delivered.
+     * @param result The emitted item.
+     * @throws Exception On error.
+     */
+    void onNext(@NonNull View view, Result result) throws Exception;
+
+    /**
+     * Called when the stream terminates with an error.
+     *
+     * @param view      The view attached when the error is delivered.
+     * @param throwable The error.
+     * @throws Exception On error.
+     */
+    void onError(@NonNull View view, Throwable throwable) throws Exception;
+
+    /**
+     * Called when the stream completes.
+     *
+     * @param view The view attached when the completion is delivered.
+     * @throws Exception On error.
+     */
+    void onComplete(@NonNull View view) throws Exception;
+}
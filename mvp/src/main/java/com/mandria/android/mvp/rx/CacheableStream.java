@@ -9,16 +9,24 @@ import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
-import io.reactivex.functions.Consumer;
+import io.reactivex.subjects.CompletableSubject;
 
 /**
  * This class is used to cache a stream with its subscriber.
+ * The stream is subscribed once {@link #start()} is called, so that it can be cached before running.
  */
 class CacheableStream<View, Result> {
 
+    /**
+     * Completed when the stream is started.
+     */
+    private final CompletableSubject mStart = CompletableSubject.create();
+
     private AbstractSubscriptionProxy<View, Result> mProxy;
 
-    private Consumer<BoundData<View, Result>> mConsumer;
+    private BoundConsumer<View, Result> mConsumer;
+
+    private TaskStats mStats;
 
     /**
      * Constructor.
@@ -27,8 +35,21 @@ class CacheableStream<View, Result> {
      * @param view       Observable that emits the view.
      * @param consumer   Consumer to attach to the observable.
      */
-    CacheableStream(Observable<Result> observable, Observable<RxView<View>> view, Consumer<BoundData<View, Result>> consumer) {
-        mProxy = new ObservableSubscriptionProxy<>(observable, view);
+    CacheableStream(Observable<Result> observable, Observable<RxView<View>> view, BoundConsumer<View, Result> consumer) {
+        this(observable, view, ReplayPolicy.unbounded(), consumer);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param observable   Observable to cache.
+     * @param view         Observable that emits the view.
+     * @param replayPolicy Policy defining the items replayed when the view is attached again.
+     * @param consumer     Consumer to attach to the observable.
+     */
+    CacheableStream(Observable<Result> observable, Observable<RxView<View>> view, ReplayPolicy replayPolicy,
+            BoundConsumer<View, Result> consumer) {
+        mProxy = new ObservableSubscriptionProxy<>(mStart.andThen(observable), view, replayPolicy);
         mConsumer = consumer;
     }
 
@@ -39,8 +60,35 @@ class CacheableStream<View, Result> {
      * @param view     Observable that emits the view.
      * @param consumer Consumer to attach to the observable.
      */
-    CacheableStream(Flowable<Result> flowable, Observable<RxView<View>> view, Consumer<BoundData<View, Result>> consumer) {
-        mProxy = new FlowableSubscriptionProxy<>(flowable, view);
+    CacheableStream(Flowable<Result> flowable, Observable<RxView<View>> view, BoundConsumer<View, Result> consumer) {
+        this(flowable, view, ReplayPolicy.unbounded(), consumer);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param flowable     Flowable to cache.
+     * @param view         Observable that emits the view.
+     * @param replayPolicy Policy defining the items replayed when the view is attached again.
+     * @param consumer     Consumer to attach to the observable.
+     */
+    CacheableStream(Flowable<Result> flowable, Observable<RxView<View>> view, ReplayPolicy replayPolicy,
+            BoundConsumer<View, Result> consumer) {
+        this(flowable, view, replayPolicy, DetachPolicy.keepRequesting(), consumer);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param flowable     Flowable to cache.
+     * @param view         Observable that emits the view.
+     * @param replayPolicy Policy defining the items replayed when the view is attached again.
+     * @param detachPolicy Policy defining how the flowable is requested while the view is detached.
+     * @param consumer     Consumer to attach to the observable.
+     */
+    CacheableStream(Flowable<Result> flowable, Observable<RxView<View>> view, ReplayPolicy replayPolicy, DetachPolicy detachPolicy,
+            BoundConsumer<View, Result> consumer) {
+        mProxy = new FlowableSubscriptionProxy<>(mStart.andThen(flowable), view, replayPolicy, detachPolicy);
         mConsumer = consumer;
     }
 
@@ -51,8 +99,8 @@ class CacheableStream<View, Result> {
      * @param view     Observable that emits the view.
      * @param consumer Consumer to attach to the observable.
      */
-    CacheableStream(Single<Result> single, Observable<RxView<View>> view, Consumer<BoundData<View, Result>> consumer) {
-        mProxy = new FlowableSubscriptionProxy<>(single.toFlowable(), view);
+    CacheableStream(Single<Result> single, Observable<RxView<View>> view, BoundConsumer<View, Result> consumer) {
+        mProxy = new FlowableSubscriptionProxy<>(mStart.andThen(single.toFlowable()), view);
         mConsumer = consumer;
     }
 
@@ -63,8 +111,8 @@ class CacheableStream<View, Result> {
      * @param view        Observable that emits the view.
      * @param consumer    Consumer to attach to the observable.
      */
-    CacheableStream(Completable completable, Observable<RxView<View>> view, Consumer<BoundData<View, Result>> consumer) {
-        mProxy = new ObservableSubscriptionProxy<>(completable.<Result>toObservable(), view);
+    CacheableStream(Completable completable, Observable<RxView<View>> view, BoundConsumer<View, Result> consumer) {
+        mProxy = new ObservableSubscriptionProxy<>(mStart.andThen(completable.<Result>toObservable()), view);
         mConsumer = consumer;
     }
 
@@ -75,16 +123,49 @@ class CacheableStream<View, Result> {
      * @param view     Observable that emits the view.
      * @param consumer Consumer to attach to the observable.
      */
-    CacheableStream(Maybe<Result> maybe, Observable<RxView<View>> view, Consumer<BoundData<View, Result>> consumer) {
-        mProxy = new ObservableSubscriptionProxy<>(maybe.toObservable(), view);
+    CacheableStream(Maybe<Result> maybe, Observable<RxView<View>> view, BoundConsumer<View, Result> consumer) {
+        mProxy = new ObservableSubscriptionProxy<>(mStart.andThen(maybe.toObservable()), view);
         mConsumer = consumer;
     }
 
     /**
-     * Resumes the observable.
+     * Subscribes to the observable, it is not subscribed if the stream is already cancelled.
+     */
+    void start() {
+        mStart.onComplete();
+    }
+
+    /**
+     * Resumes the observable with the attached view.
+     * The stream should be disposed when the view is detached.
+     *
+     * @param view The attached view.
      */
-    void resume() {
-        mProxy.subscribe(mConsumer);
+    void resume(View view) {
+        mProxy.subscribe(mConsumer, view);
+        if (mStats != null) {
+            mStats.onBound();
+        }
+    }
+
+    /**
+     * Sets the stats of the stream, the stream should already be instrumented with them.
+     *
+     * @param stats Stats, null if the stream is not instrumented.
+     */
+    void setStats(TaskStats stats) {
+        mStats = stats;
+    }
+
+    /**
+     * Publishes the stats of the stream if it is instrumented.
+     *
+     * @param outcome How the stream is finished.
+     */
+    void finish(TaskStats.Outcome outcome) {
+        if (mStats != null) {
+            mStats.finish(outcome);
+        }
     }
 
     /**
@@ -94,6 +175,34 @@ class CacheableStream<View, Result> {
         mProxy.dispose();
     }
 
+    /**
+     * Gets if the observable is bound to a view.
+     *
+     * @return True if bound.
+     */
+    boolean isBound() {
+        return mProxy.isBound();
+    }
+
+    /**
+     * Gets if the observable has terminated, its terminal event may not be delivered yet.
+     *
+     * @return True if the observable has terminated.
+     */
+    boolean isTerminated() {
+        return mProxy.isTerminated();
+    }
+
+    /**
+     * Gets if the events of the observable are dispatched to the given consumer.
+     *
+     * @param consumer Consumer.
+     * @return True if the consumer is the one of this observable.
+     */
+    boolean isConsumedBy(BoundConsumer<View, ?> consumer) {
+        return mConsumer == consumer;
+    }
+
     /**
      * Cancels the observable.
      */
@@ -0,0 +1,89 @@
+package com.mandria.android.mvp.rx;
+
+import android.support.annotation.NonNull;
+
+import io.reactivex.Flowable;
+
+/**
+ * <p>Defines how a flowable task is requested while the view is detached.</p>
+ * <p>By default the flowable is requested without bound, it keeps emitting to the replay buffer whether a view is attached or
+ * not. With {@link #pauseUpstream()}, the flowable is requested by batches while a view is attached only, so long producers
+ * (database cursors, paged feeds) stop their work once the current batch is emitted when the view is detached, and resume it
+ * when a view is attached again.</p>
+ * <p>A paused flowable is still a running task for a {@link TaskLimiter}.</p>
+ */
+public final class DetachPolicy {
+
+    private static final DetachPolicy KEEP_REQUESTING = new DetachPolicy(Long.MAX_VALUE);
+
+    private static final DetachPolicy PAUSE_UPSTREAM = new DetachPolicy(Flowable.bufferSize());
+
+    private final long mBatchSize;
+
+    /**
+     * Constructor.
+     *
+     * @param batchSize Number of items requested at once, {@link Long#MAX_VALUE} to request without bound.
+     */
+    private DetachPolicy(long batchSize) {
+        mBatchSize = batchSize;
+    }
+
+    /**
+     * The flowable is requested without bound, even while the view is detached (default behaviour).
+     *
+     * @return The keep requesting detach policy.
+     */
+    @NonNull
+    public static DetachPolicy keepRequesting() {
+        return KEEP_REQUESTING;
+    }
+
+    /**
+     * The flowable is requested by batches of {@link Flowable#bufferSize()} items while a view is attached only.
+     *
+     * @return The pause upstream detach policy.
+     */
+    @NonNull
+    public static DetachPolicy pauseUpstream() {
+        return PAUSE_UPSTREAM;
+    }
+
+    /**
+     * The flowable is requested by batches of the given number of items while a view is attached only. At most one batch is
+     * emitted after the view is detached.
+     *
+     * @param batchSize Number of items requested at once, must be positive.
+     * @return A pause upstream detach policy.
+     */
+    @NonNull
+    public static DetachPolicy pauseUpstream(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize should be positive but was " + batchSize);
+        }
+        return new DetachPolicy(batchSize);
+    }
+
+    /**
+     * Gets if the flowable stops being requested while the view is detached.
+     *
+     * @return True if the upstream is paused.
+     */
+    public boolean isPausingUpstream() {
+        return mBatchSize != Long.MAX_VALUE;
+    }
+
+    /**
+     * Gets the number of items requested at once.
+     *
+     * @return Batch size, {@link Long#MAX_VALUE} if the flowable is requested without bound.
+     */
+    public long getBatchSize() {
+        return mBatchSize;
+    }
+
+    @Override
+    public String toString() {
+        return isPausingUpstream() ? String.format("DetachPolicy pause upstream : %s", mBatchSize) : "DetachPolicy keep requesting";
+    }
+}
@@ -0,0 +1,43 @@
+package com.mandria.android.mvp.rx;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mandria.android.mvp.AtomicFileStore;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * <p>Result store keeping each result in a file of a directory, e.g. a sub directory of the application files directory.</p>
+ * <p>Files are written to a temporary file first and then renamed, so that a result is either fully stored or not stored.</p>
+ */
+public final class FileResultStore implements ResultStore {
+
+    private final AtomicFileStore mFiles;
+
+    /**
+     * Constructor.
+     *
+     * @param directory Directory of the results, created if needed.
+     */
+    public FileResultStore(@NonNull File directory) {
+        mFiles = new AtomicFileStore(directory);
+    }
+
+    @Override
+    public void put(@NonNull String key, @NonNull byte[] data) throws IOException {
+        mFiles.write(key, data);
+    }
+
+    @Nullable
+    @Override
+    public byte[] get(@NonNull String key) throws IOException {
+        return mFiles.read(key);
+    }
+
+    @Override
+    public void remove(@NonNull String key) {
+        mFiles.delete(key);
+    }
+}
@@ -0,0 +1,158 @@
+package com.mandria.android.mvp.rx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.annotations.NonNull;
+import io.reactivex.disposables.Disposable;
+
+/**
+ * <p>Observable coalescing the items of its source into lists delivered by a {@link BatchPolicy.Dispatcher}.</p>
+ * <p>The first item of a batch schedules its delivery, the following items are added to the batch until it is delivered. Items
+ * arriving during a delivery schedule the next one.</p>
+ *
+ * @param <T> Item type.
+ */
+final class ObservableBatch<T> extends Observable<List<T>> {
+
+    private final ObservableSource<T> mSource;
+
+    private final BatchPolicy mBatchPolicy;
+
+    /**
+     * Constructor.
+     *
+     * @param source      Source observable.
+     * @param batchPolicy Policy defining when the batches are delivered.
+     */
+    ObservableBatch(ObservableSource<T> source, BatchPolicy batchPolicy) {
+        mSource = source;
+        mBatchPolicy = batchPolicy;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super List<T>> observer) {
+        mSource.subscribe(new BatchObserver<>(observer, mBatchPolicy.createDispatcher()));
+    }
+
+    /**
+     * Observer collecting the items and delivering the batches. The counter is the number of pending deliveries requests.
+     *
+     * @param <T> Item type.
+     */
+    private static final class BatchObserver<T> extends AtomicInteger implements Observer<T>, Disposable, Runnable {
+
+        private static final long serialVersionUID = -5298167426914127368L;
+
+        private final Observer<? super List<T>> mDownstream;
+
+        private final BatchPolicy.Dispatcher mDispatcher;
+
+        private Disposable mUpstream;
+
+        /**
+         * Current batch, guarded by this observer.
+         */
+        private List<T> mBatch = new ArrayList<>();
+
+        private Throwable mError;
+
+        private volatile boolean mDone;
+
+        private volatile boolean mDisposed;
+
+        BatchObserver(Observer<? super List<T>> downstream, BatchPolicy.Dispatcher dispatcher) {
+            mDownstream = downstream;
+            mDispatcher = dispatcher;
+        }
+
+        @Override
+        public void onSubscribe(@NonNull Disposable d) {
+            mUpstream = d;
+            mDownstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(@NonNull T t) {
+            synchronized (this) {
+                mBatch.add(t);
+            }
+            schedule();
+        }
+
+        @Override
+        public void onError(@NonNull Throwable e) {
+            mError = e;
+            mDone = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            mDone = true;
+            schedule();
+        }
+
+        /**
+         * Schedules a delivery unless one is already pending.
+         */
+        private void schedule() {
+            if (getAndIncrement() == 0) {
+                mDispatcher.dispatch(this);
+            }
+        }
+
+        /**
+         * Delivers the current batch, then the terminal event if the source has terminated.
+         */
+        @Override
+        public void run() {
+            if (mDisposed) {
+                return;
+            }
+
+            int missed = get();
+            // Read before taking the batch so that the batch contains every item emitted before the terminal event
+            boolean done = mDone;
+
+            List<T> batch;
+            synchronized (this) {
+                batch = mBatch;
+                mBatch = batch.isEmpty() ? batch : new ArrayList<T>();
+            }
+
+            if (!batch.isEmpty()) {
+                mDownstream.onNext(batch);
+            }
+
+            if (done) {
+                mDisposed = true;
+                if (mError != null) {
+                    mDownstream.onError(mError);
+                } else {
+                    mDownstream.onComplete();
+                }
+                return;
+            }
+
+            if (addAndGet(-missed) != 0) {
+                mDispatcher.dispatch(this);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            mDisposed = true;
+            mUpstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return mDisposed;
+        }
+    }
+}
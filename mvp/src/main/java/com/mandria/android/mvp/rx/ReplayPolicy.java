@@ -0,0 +1,230 @@
+package com.mandria.android.mvp.rx;
+
+import android.support.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.processors.FlowableProcessor;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.processors.ReplayProcessor;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.ReplaySubject;
+import io.reactivex.subjects.Subject;
+
+/**
+ * <p>Defines which items of a task are kept to be replayed when the view is attached again.</p>
+ * <p>Whatever the policy, the terminal event (complete or error) of the task is always kept so that it is delivered once a view is
+ * available.</p>
+ */
+public final class ReplayPolicy {
+
+    private static final ReplayPolicy UNBOUNDED = new ReplayPolicy(Type.UNBOUNDED, 0, 0, null, null);
+
+    private static final ReplayPolicy LATEST = new ReplayPolicy(Type.SIZE, 1, 0, null, null);
+
+    private static final ReplayPolicy NONE = new ReplayPolicy(Type.NONE, 0, 0, null, null);
+
+    /**
+     * Replay buffer types.
+     */
+    private enum Type {
+        UNBOUNDED, SIZE, TIME, NONE
+    }
+
+    private final Type mType;
+
+    private final int mMaxSize;
+
+    private final long mMaxAge;
+
+    private final TimeUnit mUnit;
+
+    private final Scheduler mScheduler;
+
+    /**
+     * Constructor.
+     *
+     * @param type      Replay buffer type.
+     * @param maxSize   Max number of items kept.
+     * @param maxAge    Max age of the items kept.
+     * @param unit      Time unit of the max age.
+     * @param scheduler Scheduler used as the time source of the max age.
+     */
+    private ReplayPolicy(Type type, int maxSize, long maxAge, TimeUnit unit, Scheduler scheduler) {
+        mType = type;
+        mMaxSize = maxSize;
+        mMaxAge = maxAge;
+        mUnit = unit;
+        mScheduler = scheduler;
+    }
+
+    /**
+     * Every item emitted by the task is kept until the task is removed from the cache (default behaviour).
+     *
+     * @return The unbounded replay policy.
+     */
+    @NonNull
+    public static ReplayPolicy unbounded() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Only the latest item emitted by the task is kept.
+     *
+     * @return The latest only replay policy.
+     */
+    @NonNull
+    public static ReplayPolicy latest() {
+        return LATEST;
+    }
+
+    /**
+     * No item is kept, items emitted while the view is detached are lost.
+     *
+     * @return The no replay policy.
+     */
+    @NonNull
+    public static ReplayPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Only the last given number of items emitted by the task are kept.
+     *
+     * @param maxSize Max number of items to keep, must be positive.
+     * @return A size bounded replay policy.
+     */
+    @NonNull
+    public static ReplayPolicy size(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize should be positive but was " + maxSize);
+        }
+        return maxSize == 1 ? LATEST : new ReplayPolicy(Type.SIZE, maxSize, 0, null, null);
+    }
+
+    /**
+     * Only the items emitted by the task during the given time window are kept.
+     *
+     * @param maxAge Max age of the items to keep, must be positive.
+     * @param unit   Time unit of the max age.
+     * @return A time bounded replay policy.
+     */
+    @NonNull
+    public static ReplayPolicy time(long maxAge, @NonNull TimeUnit unit) {
+        return time(maxAge, unit, Schedulers.computation());
+    }
+
+    /**
+     * Only the items emitted by the task during the given time window are kept.
+     *
+     * @param maxAge    Max age of the items to keep, must be positive.
+     * @param unit      Time unit of the max age.
+     * @param scheduler Scheduler used as the time source.
+     * @return A time bounded replay policy.
+     */
+    @NonNull
+    public static ReplayPolicy time(long maxAge, @NonNull TimeUnit unit, @NonNull Scheduler scheduler) {
+        if (maxAge <= 0) {
+            throw new IllegalArgumentException("maxAge should be positive but was " + maxAge);
+        }
+        return new ReplayPolicy(Type.TIME, 0, maxAge, unit, scheduler);
+    }
+
+    /**
+     * Creates the subject which will replay the items of an observable according to this policy.
+     *
+     * @param <T> Item type.
+     * @return A new subject.
+     */
+    @NonNull
+    public <T> Subject<T> createSubject() {
+        switch (mType) {
+            case SIZE:
+                return ReplaySubject.createWithSize(mMaxSize);
+            case TIME:
+                return ReplaySubject.createWithTime(mMaxAge, mUnit, mScheduler);
+            case NONE:
+                // A terminated publish subject still emits its terminal event to late subscribers
+                return PublishSubject.create();
+            default:
+                return ReplaySubject.create();
+        }
+    }
+
+    /**
+     * Creates the processor which will replay the items of a flowable according to this policy.
+     *
+     * @param <T> Item type.
+     * @return A new processor.
+     */
+    @NonNull
+    public <T> FlowableProcessor<T> createProcessor() {
+        switch (mType) {
+            case SIZE:
+                return ReplayProcessor.createWithSize(mMaxSize);
+            case TIME:
+                return ReplayProcessor.createWithTime(mMaxAge, mUnit, mScheduler);
+            case NONE:
+                // A terminated publish processor still emits its terminal event to late subscribers
+                return PublishProcessor.create();
+            default:
+                return ReplayProcessor.create();
+        }
+    }
+
+    /**
+     * Shares an observable between its subscribers, replaying to late subscribers the items kept by this policy.
+     *
+     * @param observable Observable to share.
+     * @param <T>        Item type.
+     * @return An observable subscribing to the source with its first subscriber and disposing from it with its last one.
+     */
+    <T> Observable<T> share(Observable<T> observable) {
+        switch (mType) {
+            case SIZE:
+                return observable.replay(mMaxSize).refCount();
+            case TIME:
+                return observable.replay(mMaxAge, mUnit, mScheduler).refCount();
+            case NONE:
+                return observable.share();
+            default:
+                return observable.replay().refCount();
+        }
+    }
+
+    /**
+     * Shares a flowable between its subscribers, replaying to late subscribers the items kept by this policy.
+     *
+     * @param flowable Flowable to share.
+     * @param <T>      Item type.
+     * @return A flowable subscribing to the source with its first subscriber and disposing from it with its last one.
+     */
+    <T> Flowable<T> share(Flowable<T> flowable) {
+        switch (mType) {
+            case SIZE:
+                return flowable.replay(mMaxSize).refCount();
+            case TIME:
+                return flowable.replay(mMaxAge, mUnit, mScheduler).refCount();
+            case NONE:
+                return flowable.share();
+            default:
+                return flowable.replay().refCount();
+        }
+    }
+
+    @Override
+    public String toString() {
+        switch (mType) {
+            case SIZE:
+                return String.format("ReplayPolicy size : %s", mMaxSize);
+            case TIME:
+                return String.format("ReplayPolicy time : %s %s", mMaxAge, mUnit);
+            default:
+                return String.format("ReplayPolicy %s", mType);
+        }
+    }
+}
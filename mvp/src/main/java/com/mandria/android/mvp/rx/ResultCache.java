@@ -0,0 +1,346 @@
+package com.mandria.android.mvp.rx;
+
+import com.mandria.android.mvp.MVPLogger;
+
+import android.content.ComponentCallbacks2;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import org.reactivestreams.Publisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.functions.Action;
+import io.reactivex.functions.Consumer;
+
+/**
+ * <p>Application scoped cache of the results of the completed tasks, so that a task started again within its time to live does
+ * not run again, e.g. when the user re-enters a screen.</p>
+ * <p>The results of a task are stored once it completes successfully, keyed by a request key, and expire after the time to live.
+ * The least recently used results are dropped when the cache is full. Expired results stay in the cache until they are dropped so
+ * that they can still be served while the task runs again (stale while revalidate).</p>
+ * <p>The cache is used by wrapping the stream given to {@link RxPresenter#start}, e.g.
+ * <code>start(tag, resultCache.memoize("user/" + id, api.getUser(id)), onNext, onError)</code>.</p>
+ */
+public final class ResultCache {
+
+    private static final String TAG = "ResultCache";
+
+    private final int mMaxSize;
+
+    private final long mTimeToLiveNanos;
+
+    /**
+     * Time source, null for {@link System#nanoTime()}.
+     */
+    private final Scheduler mClock;
+
+    /**
+     * Results by key, in access order. Guarded by itself.
+     */
+    private final LinkedHashMap<String, Entry> mEntries;
+
+    /**
+     * Constructor, the results expire according to {@link System#nanoTime()} so that wall clock changes have no effect.
+     *
+     * @param maxSize    Max number of task results kept, must be positive.
+     * @param timeToLive Time during which the results of a task are served instead of running it again, must be positive.
+     * @param unit       Time unit of the time to live.
+     */
+    public ResultCache(int maxSize, long timeToLive, @NonNull TimeUnit unit) {
+        this(maxSize, timeToLive, unit, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize    Max number of task results kept, must be positive.
+     * @param timeToLive Time during which the results of a task are served instead of running it again, must be positive.
+     * @param unit       Time unit of the time to live.
+     * @param clock      Scheduler used as the time source, e.g. a test scheduler, null to use {@link System#nanoTime()}.
+     */
+    public ResultCache(int maxSize, long timeToLive, @NonNull TimeUnit unit, @Nullable Scheduler clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize should be positive but was " + maxSize);
+        }
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("timeToLive should be positive but was " + timeToLive);
+        }
+        mMaxSize = maxSize;
+        mTimeToLiveNanos = unit.toNanos(timeToLive);
+        mClock = clock;
+        mEntries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > mMaxSize;
+            }
+        };
+    }
+
+    /**
+     * Memoizes the results of an observable. If the results of the key are not expired, they are emitted instead of subscribing
+     * to the observable.
+     *
+     * @param key        Request key, must always identify the same request and result type.
+     * @param observable Observable to memoize.
+     * @param <T>        Item type.
+     * @return An observable emitting the cached results or the results of the given observable.
+     */
+    @NonNull
+    public <T> Observable<T> memoize(@NonNull String key, @NonNull Observable<T> observable) {
+        return memoize(key, observable, false);
+    }
+
+    /**
+     * <p>Memoizes the results of an observable.</p>
+     * <p>Without revalidation, if the results of the key are not expired, they are emitted instead of subscribing to the
+     * observable. With revalidation, the cached results of the key are emitted even if expired, followed by the results of the
+     * observable which replace them in the cache.</p>
+     *
+     * @param key        Request key, must always identify the same request and result type.
+     * @param observable Observable to memoize.
+     * @param revalidate True to always refresh the results after emitting the cached ones.
+     * @param <T>        Item type.
+     * @return An observable emitting the cached results and/or the results of the given observable.
+     */
+    @NonNull
+    public <T> Observable<T> memoize(@NonNull final String key, @NonNull final Observable<T> observable,
+            final boolean revalidate) {
+        return Observable.defer(new Callable<ObservableSource<T>>() {
+            @Override
+            public ObservableSource<T> call() {
+                List<T> cached = getResults(key, revalidate);
+                if (cached != null && !revalidate) {
+                    MVPLogger.dFormat(TAG, "Serving cached results : %s", key);
+                    return Observable.fromIterable(cached);
+                }
+
+                final List<T> results = new ArrayList<>();
+                Observable<T> upstream = observable
+                        .doOnNext(new Consumer<T>() {
+                            @Override
+                            public void accept(T t) {
+                                results.add(t);
+                            }
+                        })
+                        .doOnComplete(new Action() {
+                            @Override
+                            public void run() {
+                                putResults(key, results);
+                            }
+                        });
+
+                if (cached != null) {
+                    MVPLogger.dFormat(TAG, "Serving cached results while revalidating : %s", key);
+                    return Observable.fromIterable(cached).concatWith(upstream);
+                }
+                return upstream;
+            }
+        });
+    }
+
+    /**
+     * Memoizes the results of a flowable. If the results of the key are not expired, they are emitted instead of subscribing to
+     * the flowable.
+     *
+     * @param key      Request key, must always identify the same request and result type.
+     * @param flowable Flowable to memoize.
+     * @param <T>      Item type.
+     * @return A flowable emitting the cached results or the results of the given flowable.
+     */
+    @NonNull
+    public <T> Flowable<T> memoize(@NonNull String key, @NonNull Flowable<T> flowable) {
+        return memoize(key, flowable, false);
+    }
+
+    /**
+     * <p>Memoizes the results of a flowable.</p>
+     * <p>Without revalidation, if the results of the key are not expired, they are emitted instead of subscribing to the flowable.
+     * With revalidation, the cached results of the key are emitted even if expired, followed by the results of the flowable which
+     * replace them in the cache.</p>
+     *
+     * @param key        Request key, must always identify the same request and result type.
+     * @param flowable   Flowable to memoize.
+     * @param revalidate True to always refresh the results after emitting the cached ones.
+     * @param <T>        Item type.
+     * @return A flowable emitting the cached results and/or the results of the given flowable.
+     */
+    @NonNull
+    public <T> Flowable<T> memoize(@NonNull final String key, @NonNull final Flowable<T> flowable, final boolean revalidate) {
+        return Flowable.defer(new Callable<Publisher<T>>() {
+            @Override
+            public Publisher<T> call() {
+                List<T> cached = getResults(key, revalidate);
+                if (cached != null && !revalidate) {
+                    MVPLogger.dFormat(TAG, "Serving cached results : %s", key);
+                    return Flowable.fromIterable(cached);
+                }
+
+                final List<T> results = new ArrayList<>();
+                Flowable<T> upstream = flowable
+                        .doOnNext(new Consumer<T>() {
+                            @Override
+                            public void accept(T t) {
+                                results.add(t);
+                            }
+                        })
+                        .doOnComplete(new Action() {
+                            @Override
+                            public void run() {
+                                putResults(key, results);
+                            }
+                        });
+
+                if (cached != null) {
+                    MVPLogger.dFormat(TAG, "Serving cached results while revalidating : %s", key);
+                    return Flowable.fromIterable(cached).concatWith(upstream);
+                }
+                return upstream;
+            }
+        });
+    }
+
+    /**
+     * Memoizes the result of a single. If the result of the key is not expired, it is emitted instead of subscribing to the
+     * single.
+     *
+     * @param key    Request key, must always identify the same request and result type.
+     * @param single Single to memoize.
+     * @param <T>    Result type.
+     * @return A single emitting the cached result or the result of the given single.
+     */
+    @NonNull
+    public <T> Single<T> memoize(@NonNull String key, @NonNull Single<T> single) {
+        return memoize(key, single.toObservable()).singleOrError();
+    }
+
+    /**
+     * Memoizes the result of a maybe. If the result of the key is not expired, it is emitted instead of subscribing to the maybe.
+     *
+     * @param key   Request key, must always identify the same request and result type.
+     * @param maybe Maybe to memoize.
+     * @param <T>   Result type.
+     * @return A maybe emitting the cached result or the result of the given maybe.
+     */
+    @NonNull
+    public <T> Maybe<T> memoize(@NonNull String key, @NonNull Maybe<T> maybe) {
+        return memoize(key, maybe.toObservable()).singleElement();
+    }
+
+    /**
+     * Removes the results of a key.
+     *
+     * @param key Request key.
+     */
+    public void invalidate(@NonNull String key) {
+        synchronized (mEntries) {
+            mEntries.remove(key);
+        }
+    }
+
+    /**
+     * Removes all the results.
+     */
+    public void clear() {
+        synchronized (mEntries) {
+            mEntries.clear();
+        }
+    }
+
+    /**
+     * Drops the expired results from {@link ComponentCallbacks2#TRIM_MEMORY_BACKGROUND} level or on
+     * {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_LOW} level, and all the results from
+     * {@link ComponentCallbacks2#TRIM_MEMORY_MODERATE} level or on {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_CRITICAL}
+     * level.
+     *
+     * @param level Memory trim level given to {@link ComponentCallbacks2#onTrimMemory(int)}.
+     */
+    public void trimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            clear();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND
+                || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            long now = now();
+            synchronized (mEntries) {
+                Iterator<Entry> iterator = mEntries.values().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().isExpired(now)) {
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the results of a key.
+     *
+     * @param key          Request key.
+     * @param allowExpired True to get the results even if expired.
+     * @param <T>          Item type.
+     * @return The results, null if none.
+     */
+    private <T> List<T> getResults(String key, boolean allowExpired) {
+        Entry entry;
+        synchronized (mEntries) {
+            entry = mEntries.get(key);
+        }
+        if (entry == null || (!allowExpired && entry.isExpired(now()))) {
+            return null;
+        }
+        // noinspection unchecked
+        return (List<T>) entry.mResults;
+    }
+
+    /**
+     * Stores the results of a completed task.
+     *
+     * @param key     Request key.
+     * @param results Results of the task.
+     */
+    private void putResults(String key, List<?> results) {
+        Entry entry = new Entry(Collections.unmodifiableList(results), now() + mTimeToLiveNanos);
+        synchronized (mEntries) {
+            mEntries.put(key, entry);
+        }
+    }
+
+    /**
+     * @return Current time in nanoseconds.
+     */
+    private long now() {
+        return mClock != null ? mClock.now(TimeUnit.NANOSECONDS) : System.nanoTime();
+    }
+
+    /**
+     * Results of a task with their expiration time.
+     */
+    private static final class Entry {
+
+        private final List<?> mResults;
+
+        private final long mExpiresAt;
+
+        Entry(List<?> results, long expiresAt) {
+            mResults = results;
+            mExpiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - mExpiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.mandria.android.mvp.rx;
+
+import android.support.annotation.NonNull;
+
+/**
+ * This interface converts the result of a task to bytes so that it can be persisted across process death.
+ *
+ * @param <Result> Result type.
+ */
+public interface ResultSerializer<Result> {
+
+    /**
+     * Converts a result to bytes.
+     *
+     * @param result The result.
+     * @return The bytes of the result.
+     * @throws Exception On error.
+     */
+    @NonNull
+    byte[] serialize(@NonNull Result result) throws Exception;
+
+    /**
+     * Converts bytes back to a result.
+     *
+     * @param data The bytes given by {@link #serialize(Object)}.
+     * @return The result.
+     * @throws Exception On error.
+     */
+    @NonNull
+    Result deserialize(@NonNull byte[] data) throws Exception;
+}
@@ -0,0 +1,40 @@
+package com.mandria.android.mvp.rx;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * <p>This interface stores the persisted results of the tasks outside of the presenter bundle, e.g. for results too large for
+ * the saved instance state.</p>
+ * <p>Keys are unique across presenters and stable across process death.</p>
+ */
+public interface ResultStore {
+
+    /**
+     * Stores the bytes of a result.
+     *
+     * @param key  Result key.
+     * @param data Bytes of the result.
+     * @throws IOException On error.
+     */
+    void put(@NonNull String key, @NonNull byte[] data) throws IOException;
+
+    /**
+     * Gets the bytes of a result.
+     *
+     * @param key Result key.
+     * @return The bytes of the result, null if none.
+     * @throws IOException On error.
+     */
+    @Nullable
+    byte[] get(@NonNull String key) throws IOException;
+
+    /**
+     * Removes the bytes of a result.
+     *
+     * @param key Result key.
+     */
+    void remove(@NonNull String key);
+}
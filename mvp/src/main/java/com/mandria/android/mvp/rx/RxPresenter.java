@@ -6,30 +6,37 @@ import com.mandria.android.mvp.rx.callbacks.OnCompleted;
 import com.mandria.android.mvp.rx.callbacks.OnError;
 import com.mandria.android.mvp.rx.callbacks.OnNext;
 
+import android.content.ComponentCallbacks2;
 import android.os.Bundle;
 import android.support.annotation.CallSuper;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import org.reactivestreams.Publisher;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
-import io.reactivex.Notification;
 import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
 import io.reactivex.Single;
 import io.reactivex.disposables.CompositeDisposable;
 import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Action;
 import io.reactivex.functions.Consumer;
 import io.reactivex.subjects.BehaviorSubject;
-import io.reactivex.subjects.ReplaySubject;
 
 
 /**
@@ -37,23 +44,52 @@ import io.reactivex.subjects.ReplaySubject;
  */
 public class RxPresenter<V> extends Presenter<V> {
 
+    /**
+     * Scheduler policy of all the presenters, null for {@link SchedulerPolicy#io()}.
+     */
+    private static volatile SchedulerPolicy sDefaultSchedulerPolicy;
+
+    /**
+     * Metrics sink of all the presenters which do not define their own sink.
+     */
+    private static volatile TaskMetrics sDefaultTaskMetrics;
+
+    /**
+     * Limiter of the running tasks of all the presenters which do not define their own limiter.
+     */
+    private static volatile TaskLimiter sDefaultTaskLimiter;
+
+    /**
+     * Bundle key of the tags of the persisted results.
+     */
+    private static final String KEY_PERSISTED_TAGS = "RxPresenter.persistedTags";
+
+    /**
+     * Bundle key prefix of a persisted result.
+     */
+    private static final String KEY_PERSISTED_RESULT = "RxPresenter.persistedResult.";
+
+    /**
+     * Bundle key of the scope of the results persisted in the result store.
+     */
+    private static final String KEY_RESULT_SCOPE = "RxPresenter.resultScope";
+
     private final String mTag = getClass().getSimpleName();
 
     /**
-     * Replay subject to fire the cache removal of all awaiting task.
+     * Scheduler policy of this presenter, null for the default scheduler policy.
      */
-    private final ReplaySubject<Boolean> mCacheSynchronization = ReplaySubject.create();
+    private volatile SchedulerPolicy mSchedulerPolicy;
 
     /**
-     * Cache synchronization replay subject disposable.
+     * Metrics sink of this presenter, null to use the default one.
      */
-    private Disposable mCacheSynchronizationDisposable;
+    private volatile TaskMetrics mTaskMetrics;
 
     /**
-     * Queue to store the observable tags which have terminated while manipulating the cache.
-     * This list is used to avoid ConcurrentModificationException on the cache.
+     * Limiter of the running tasks of this presenter, null to use the default one.
      */
-    private final List<String> mTerminatedQueue = new ArrayList<>();
+    private volatile TaskLimiter mTaskLimiter;
 
     /**
      * Behaviour subject to publish the view state through observable operations.
@@ -61,12 +97,28 @@ public class RxPresenter<V> extends Presenter<V> {
      */
     private final BehaviorSubject<RxView<V>> mView = BehaviorSubject.create();
 
+    /**
+     * Owner of the tasks queued by the task limiter, giving them priority while the view is attached.
+     */
+    private final TaskLimiter.Owner mLimiterOwner = new TaskLimiter.Owner() {
+        @Override
+        public boolean hasView() {
+            RxView<V> rxView = mView.getValue();
+            return rxView != null && rxView.view != null;
+        }
+    };
+
     /**
      * Map of cached observables.
-     * Operations on this map should be synchronized to avoid concurrency access.
+     * Its iterators are weakly consistent so that terminated tasks can be removed from any thread while the map is iterated.
      */
     private final ConcurrentHashMap<String, CacheableStream<V, ?>> mCache = new ConcurrentHashMap<>();
 
+    /**
+     * Tasks started with {@link StartMode#ENQUEUE} waiting for the task with the same tag to finish, guarded by itself.
+     */
+    private final HashMap<String, ArrayDeque<TaskFactory<V, ?>>> mPendingTasks = new HashMap<>();
+
     /**
      * Stores the subscriptions to release them in {@link #destroy()} call.
      */
@@ -77,6 +129,31 @@ public class RxPresenter<V> extends Presenter<V> {
      */
     private final HashMap<String, Consumer<V>> mQueue = new HashMap<>();
 
+    /**
+     * Store of the persisted results, null to persist them in the presenter bundle.
+     */
+    private volatile ResultStore mResultStore;
+
+    /**
+     * Scope of the results persisted in the result store, stable across process death.
+     */
+    private String mResultScope;
+
+    /**
+     * Results of the persisted tasks, by task tag.
+     */
+    private final ConcurrentHashMap<String, PersistedResult<?>> mPersistedResults = new ConcurrentHashMap<>();
+
+    /**
+     * Results restored from the presenter bundle which are not started yet, by task tag.
+     */
+    private final ConcurrentHashMap<String, byte[]> mRestoredResults = new ConcurrentHashMap<>();
+
+    /**
+     * Tags of the results persisted in the result store which are not started yet.
+     */
+    private final ConcurrentHashMap<String, Boolean> mRestoredTags = new ConcurrentHashMap<>();
+
     @CallSuper
     @Override
     protected void onCreate(@Nullable Bundle savedState) {
@@ -84,22 +161,17 @@ public class RxPresenter<V> extends Presenter<V> {
 
         mDisposables = new CompositeDisposable();
 
-        // The replay subject must be initialized when presenter is created
-        mCacheSynchronization.onNext(false);
+        if (savedState != null) {
+            restoreResults(savedState);
+        }
+    }
 
-        mCacheSynchronizationDisposable = mCacheSynchronization.subscribe(new Consumer<Boolean>() {
-            @Override
-            public void accept(Boolean manipulating) {
-                if (!manipulating && !mTerminatedQueue.isEmpty()) {
-                    ListIterator<String> listIterator = mTerminatedQueue.listIterator();
-                    while (listIterator.hasNext()) {
-                        String tag = listIterator.next();
-                        removeFromCache(tag);
-                        listIterator.remove();
-                    }
-                }
-            }
-        });
+    @CallSuper
+    @Override
+    protected void onSave(@NonNull Bundle state) {
+        super.onSave(state);
+
+        saveResults(state);
     }
 
     @CallSuper
@@ -108,8 +180,9 @@ public class RxPresenter<V> extends Presenter<V> {
         super.onViewAttached(view);
 
         mView.onNext(new RxView<>(view));
+        updateTaskPriority();
         resumeQueue(view);
-        resumeAll();
+        resumeAll(view);
     }
 
     @CallSuper
@@ -118,6 +191,7 @@ public class RxPresenter<V> extends Presenter<V> {
         super.onViewDetached();
 
         mView.onNext(new RxView<V>(null));
+        updateTaskPriority();
         disposeAll();
     }
 
@@ -128,12 +202,50 @@ public class RxPresenter<V> extends Presenter<V> {
 
         mView.onComplete();
         cancelAll();
-        mCacheSynchronization.onComplete();
-        mCacheSynchronizationDisposable.dispose();
     }
 
     /**
-     * Disposes from all subscribed observables.
+     * <p>While the view is detached, from {@link ComponentCallbacks2#TRIM_MEMORY_BACKGROUND} level or on
+     * {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_CRITICAL} level, drops the replayed results of the terminated tasks which
+     * are not delivered yet and clears the actions waiting for the view to be attached.</p>
+     * <p>Running tasks are kept.</p>
+     */
+    @CallSuper
+    @Override
+    protected void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+
+        if (level < ComponentCallbacks2.TRIM_MEMORY_BACKGROUND && level != ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            return;
+        }
+
+        RxView<V> rxView = mView.getValue();
+        if (rxView != null && rxView.view != null) {
+            // Terminated tasks and actions are delivered as soon as the view is attached
+            return;
+        }
+
+        if (!mQueue.isEmpty()) {
+            MVPLogger.dFormat(mTag, "Trim memory, clearing %s action waiting for view attached", mQueue.size());
+            mQueue.clear();
+        }
+
+        Iterator<Map.Entry<String, CacheableStream<V, ?>>> iterator = mCache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, CacheableStream<V, ?>> entry = iterator.next();
+            if (entry.getValue().isTerminated()) {
+                MVPLogger.dFormat(mTag, "Trim memory, dropping results of terminated task : %s", entry.getKey());
+                entry.getValue().cancel();
+                iterator.remove();
+                entry.getValue().finish(TaskStats.Outcome.DROPPED);
+                forgetResult(entry.getKey());
+                startPendingTask(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Disposes from all observables bound to the view.
      */
     private void disposeAll() {
         if (mDisposables != null) {
@@ -141,13 +253,11 @@ public class RxPresenter<V> extends Presenter<V> {
             mDisposables = new CompositeDisposable();
         }
 
-        mCacheSynchronization.onNext(true);
-
-        for (String key : mCache.keySet()) {
-            mCache.get(key).dispose();
+        for (CacheableStream<V, ?> stream : mCache.values()) {
+            if (stream.isBound()) {
+                stream.dispose();
+            }
         }
-
-        mCacheSynchronization.onNext(false);
     }
 
     /**
@@ -159,27 +269,44 @@ public class RxPresenter<V> extends Presenter<V> {
             mDisposables = new CompositeDisposable();
         }
 
-        mCacheSynchronization.onNext(true);
+        synchronized (mPendingTasks) {
+            mPendingTasks.clear();
+        }
 
-        for (String key : mCache.keySet()) {
-            mCache.get(key).cancel();
+        Iterator<CacheableStream<V, ?>> iterator = mCache.values().iterator();
+        while (iterator.hasNext()) {
+            CacheableStream<V, ?> stream = iterator.next();
+            iterator.remove();
+            stream.cancel();
+            stream.finish(TaskStats.Outcome.CANCELLED_BY_CANCEL_ALL);
         }
-        mCache.clear();
 
-        mCacheSynchronization.onNext(false);
+        forgetAllResults();
     }
 
     /**
-     * Resumes all cached observables.
+     * Resumes all cached observables with the attached view.
+     * Observables whose results are delivered are removed from the cache, so only the running observables and the terminated
+     * observables waiting for the view are bound.
+     *
+     * @param view The attached view.
      */
-    private void resumeAll() {
-        mCacheSynchronization.onNext(true);
-
-        for (String key : mCache.keySet()) {
-            mCache.get(key).resume();
+    private void resumeAll(V view) {
+        for (CacheableStream<V, ?> stream : mCache.values()) {
+            stream.resume(view);
         }
+    }
 
-        mCacheSynchronization.onNext(false);
+    /**
+     * Resumes a cached observable if the view is attached. Otherwise it will be resumed once the view is attached.
+     *
+     * @param stream Cached observable.
+     */
+    private void resume(CacheableStream<V, ?> stream) {
+        RxView<V> rxView = mView.getValue();
+        if (rxView != null && rxView.view != null) {
+            stream.resume(rxView.view);
+        }
     }
 
     /**
@@ -188,23 +315,18 @@ public class RxPresenter<V> extends Presenter<V> {
      * @param tag Cached observable tag.
      */
     protected void cancel(String tag) {
-        CacheableStream<V, ?> cached = mCache.get(tag);
+        synchronized (mPendingTasks) {
+            mPendingTasks.remove(tag);
+        }
+
+        CacheableStream<V, ?> cached = mCache.remove(tag);
         if (cached != null) {
             cached.cancel();
-            mCache.remove(tag);
+            cached.finish(TaskStats.Outcome.CANCELLED);
+            forgetResult(tag);
         }
     }
 
-    /**
-     * Removes an observable from the cache.
-     *
-     * @param tag Observable tag to remove.
-     */
-    private void removeFromCache(String tag) {
-        MVPLogger.d(mTag, String.format("Remove %s from cache", tag));
-        mCache.remove(tag);
-    }
-
     /**
      * Every disposable should be added here in order to avoid memory leak.
      * The subscriptions will be unsubscribed in {@link #onViewDetached()} callback.
@@ -224,6 +346,136 @@ public class RxPresenter<V> extends Presenter<V> {
         mDisposables.remove(disposable);
     }
 
+    /**
+     * Starts a task according to the start mode if a task with the same tag exists in cache.
+     *
+     * @param tag       Task tag.
+     * @param startMode What is done if a task with the same tag exists in cache.
+     * @param factory   Factory of the cached task, started once cached.
+     * @param <Result>  Result type of the task.
+     */
+    private <Result> void startTask(String tag, StartMode startMode, TaskFactory<V, Result> factory) {
+        CacheableStream<V, ?> cached = mCache.get(tag);
+
+        switch (startMode) {
+            case REPLACE:
+                if (cached != null) {
+                    MVPLogger.dFormat(mTag, "Replacing task : %s", tag);
+                }
+                // Also cancels the tasks enqueued with the same tag
+                cancel(tag);
+                break;
+            case IGNORE_IF_RUNNING:
+                if (cached != null && !cached.isTerminated()) {
+                    MVPLogger.dFormat(mTag, "Ignoring task, already running : %s", tag);
+                    return;
+                }
+                if (cached != null) {
+                    MVPLogger.dFormat(mTag, "Replacing terminated task : %s", tag);
+                    cancel(tag);
+                }
+                break;
+            case ENQUEUE:
+                if (cached != null || hasPendingTasks(tag)) {
+                    MVPLogger.dFormat(mTag, "Enqueuing task : %s", tag);
+                    enqueue(tag, factory, false);
+                    return;
+                }
+                break;
+            default:
+                if (cached != null) {
+                    MVPLogger.dFormat(mTag, "Resuming task : %s", tag);
+                    resume(cached);
+                    return;
+                }
+                break;
+        }
+
+        MVPLogger.dFormat(mTag, "Starting task : %s", tag);
+        CacheableStream<V, Result> created = factory.create();
+        // The tag is reserved before the task is subscribed, so that a task started concurrently never runs
+        cached = mCache.putIfAbsent(tag, created);
+        if (cached != null) {
+            // Started concurrently with the same tag
+            created.cancel();
+        } else {
+            created.start();
+            cached = created;
+        }
+
+        resume(cached);
+    }
+
+    /**
+     * Enqueues a task until the tasks with the same tag are finished.
+     *
+     * @param tag     Task tag.
+     * @param factory Factory of the cached task.
+     * @param first   True to start the task before the other enqueued tasks.
+     */
+    private void enqueue(String tag, TaskFactory<V, ?> factory, boolean first) {
+        synchronized (mPendingTasks) {
+            ArrayDeque<TaskFactory<V, ?>> pending = mPendingTasks.get(tag);
+            if (pending == null) {
+                pending = new ArrayDeque<>();
+                mPendingTasks.put(tag, pending);
+            }
+            if (first) {
+                pending.addFirst(factory);
+            } else {
+                pending.addLast(factory);
+            }
+        }
+
+        if (!mCache.containsKey(tag)) {
+            // The task with the same tag finished meanwhile
+            startPendingTask(tag);
+        }
+    }
+
+    /**
+     * Gets if tasks are enqueued with a tag.
+     *
+     * @param tag Task tag.
+     * @return True if tasks are waiting for the tasks with the same tag to finish.
+     */
+    private boolean hasPendingTasks(String tag) {
+        synchronized (mPendingTasks) {
+            return mPendingTasks.containsKey(tag);
+        }
+    }
+
+    /**
+     * Starts the next task enqueued with a tag, called once the task with this tag is removed from the cache.
+     * Can be called from any thread.
+     *
+     * @param tag Task tag.
+     */
+    private void startPendingTask(String tag) {
+        TaskFactory<V, ?> factory;
+        synchronized (mPendingTasks) {
+            ArrayDeque<TaskFactory<V, ?>> pending = mPendingTasks.get(tag);
+            if (pending == null || mCache.containsKey(tag)) {
+                return;
+            }
+            factory = pending.poll();
+            if (pending.isEmpty()) {
+                mPendingTasks.remove(tag);
+            }
+        }
+
+        MVPLogger.dFormat(mTag, "Starting enqueued task : %s", tag);
+        CacheableStream<V, ?> created = factory.create();
+        if (mCache.putIfAbsent(tag, created) == null) {
+            created.start();
+            resume(created);
+        } else {
+            // Started concurrently with the same tag, the task waits for it
+            created.cancel();
+            enqueue(tag, factory, true);
+        }
+    }
+
     /**
      * Gets a consumer for the stream which will dispatch events to each corresponding callback.
      *
@@ -233,34 +485,314 @@ public class RxPresenter<V> extends Presenter<V> {
      * @param <Result>    Result type of the observable.
      * @return The consumer to attach to the stream.
      */
-    private <Result> Consumer<BoundData<V, Result>> getCacheableStreamConsumer(@NonNull final String tag,
+    private <Result> BoundConsumer<V, Result> getCacheableStreamConsumer(@NonNull final String tag,
             @Nullable final OnNext<V, Result> onNext,
             @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
-        return new Consumer<BoundData<V, Result>>() {
+        return new BoundConsumer<V, Result>() {
+
+            /**
+             * The terminal event is delivered once, even if it is replayed to a new view while being delivered from another thread.
+             */
+            private final AtomicBoolean mTerminalDelivered = new AtomicBoolean();
+
+            @Override
+            public void onNext(@NonNull V view, Result result) throws Exception {
+                if (onNext != null) {
+                    onNext.accept(view, result);
+                }
+            }
+
+            @Override
+            public void onError(@NonNull V view, Throwable throwable) throws Exception {
+                if (!mTerminalDelivered.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    if (onError != null) {
+                        onError.accept(view, throwable);
+                    }
+                } finally {
+                    onTerminated(tag, this);
+                }
+            }
+
             @Override
-            public void accept(@io.reactivex.annotations.NonNull BoundData<V, Result> rxViewResultBoundData) throws Exception {
-                V view = rxViewResultBoundData.getView();
-                Notification<Result> notification = rxViewResultBoundData.getData();
-
-                if (onNext != null && notification.isOnNext()) {
-                    onNext.accept(view, notification.getValue());
-                } else if (onCompleted != null && notification.isOnComplete()) {
-                    onCompleted.accept(view);
-                } else if (onError != null && notification.isOnError()) {
-                    onError.accept(view, notification.getError());
-                }
-
-                if (notification.isOnComplete() || notification.isOnError()) {
-                    if (mCacheSynchronization.getValue()) {
-                        mTerminatedQueue.add(tag);
-                    } else {
-                        removeFromCache(tag);
+            public void onComplete(@NonNull V view) throws Exception {
+                if (!mTerminalDelivered.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    if (onCompleted != null) {
+                        onCompleted.accept(view);
                     }
+                } finally {
+                    onTerminated(tag, this);
                 }
             }
         };
     }
 
+    /**
+     * Removes a terminated task from the cache, unless it has already been replaced by a task started with the same tag.
+     * Can be called from any thread, including while the cache is iterated.
+     *
+     * @param tag      Terminated task tag.
+     * @param consumer Consumer of the terminated task.
+     */
+    private void onTerminated(String tag, BoundConsumer<V, ?> consumer) {
+        CacheableStream<V, ?> cached = mCache.get(tag);
+        if (cached != null && cached.isConsumedBy(consumer) && mCache.remove(tag, cached)) {
+            MVPLogger.dFormat(mTag, "Remove %s from cache", tag);
+            cached.finish(TaskStats.Outcome.COMPLETED);
+            forgetResult(tag);
+            startPendingTask(tag);
+        }
+    }
+
+    /**
+     * Sets the store of the persisted results, see {@link #persist(String, Observable, ResultSerializer)}. Should be set before
+     * the presenter is created to restore the results persisted in the store.
+     *
+     * @param resultStore Result store, null to persist the results in the presenter bundle.
+     */
+    public void setResultStore(@Nullable ResultStore resultStore) {
+        mResultStore = resultStore;
+    }
+
+    /**
+     * <p>
+     * Persists the result of an observable across process death.
+     * </p>
+     * <p>
+     * Once the observable completes, its latest item is saved with the presenter state until it is delivered to the view, in the
+     * presenter bundle or in the {@link ResultStore} if any. When the presenter is recreated after process death, the returned
+     * observable emits the restored result instead of subscribing to the given observable. The tag should be the one used to
+     * start the returned observable, e.g. <code>start(tag, persist(tag, download, serializer), onNext, onError)</code>.
+     * </p>
+     *
+     * @param tag        Task tag.
+     * @param observable Observable to persist.
+     * @param serializer Serializer of the result.
+     * @param <Result>   Result type of the observable.
+     * @return An observable emitting the restored result if any, else the items of the given observable.
+     */
+    @NonNull
+    public <Result> Observable<Result> persist(@NonNull final String tag, @NonNull final Observable<Result> observable,
+            @NonNull final ResultSerializer<Result> serializer) {
+        return Observable.defer(new Callable<ObservableSource<Result>>() {
+            @Override
+            public ObservableSource<Result> call() {
+                PersistedResult<Result> persisted = new PersistedResult<>(serializer);
+                mPersistedResults.put(tag, persisted);
+
+                Result restored = restoreResult(tag, serializer);
+                if (restored != null) {
+                    persisted.accept(restored);
+                    persisted.run();
+                    return Observable.just(restored);
+                }
+                return observable.doOnNext(persisted).doOnComplete(persisted);
+            }
+        });
+    }
+
+    /**
+     * Persists the result of a flowable across process death, see {@link #persist(String, Observable, ResultSerializer)}.
+     *
+     * @param tag        Task tag.
+     * @param flowable   Flowable to persist.
+     * @param serializer Serializer of the result.
+     * @param <Result>   Result type of the flowable.
+     * @return A flowable emitting the restored result if any, else the items of the given flowable.
+     */
+    @NonNull
+    public <Result> Flowable<Result> persist(@NonNull final String tag, @NonNull final Flowable<Result> flowable,
+            @NonNull final ResultSerializer<Result> serializer) {
+        return Flowable.defer(new Callable<Publisher<Result>>() {
+            @Override
+            public Publisher<Result> call() {
+                PersistedResult<Result> persisted = new PersistedResult<>(serializer);
+                mPersistedResults.put(tag, persisted);
+
+                Result restored = restoreResult(tag, serializer);
+                if (restored != null) {
+                    persisted.accept(restored);
+                    persisted.run();
+                    return Flowable.just(restored);
+                }
+                return flowable.doOnNext(persisted).doOnComplete(persisted);
+            }
+        });
+    }
+
+    /**
+     * Persists the result of a single across process death, see {@link #persist(String, Observable, ResultSerializer)}.
+     *
+     * @param tag        Task tag.
+     * @param single     Single to persist.
+     * @param serializer Serializer of the result.
+     * @param <Result>   Result type of the single.
+     * @return A single emitting the restored result if any, else the result of the given single.
+     */
+    @NonNull
+    public <Result> Single<Result> persist(@NonNull String tag, @NonNull Single<Result> single,
+            @NonNull ResultSerializer<Result> serializer) {
+        return persist(tag, single.toObservable(), serializer).singleOrError();
+    }
+
+    /**
+     * Persists the result of a maybe across process death, see {@link #persist(String, Observable, ResultSerializer)}.
+     *
+     * @param tag        Task tag.
+     * @param maybe      Maybe to persist.
+     * @param serializer Serializer of the result.
+     * @param <Result>   Result type of the maybe.
+     * @return A maybe emitting the restored result if any, else the result of the given maybe.
+     */
+    @NonNull
+    public <Result> Maybe<Result> persist(@NonNull String tag, @NonNull Maybe<Result> maybe,
+            @NonNull ResultSerializer<Result> serializer) {
+        return persist(tag, maybe.toObservable(), serializer).singleElement();
+    }
+
+    /**
+     * Reads the tags of the persisted results, and the results themselves if they are in the bundle.
+     *
+     * @param savedState Presenter bundle.
+     */
+    private void restoreResults(@NonNull Bundle savedState) {
+        List<String> tags = savedState.getStringArrayList(KEY_PERSISTED_TAGS);
+        if (tags == null) {
+            return;
+        }
+
+        mResultScope = savedState.getString(KEY_RESULT_SCOPE);
+        for (String tag : tags) {
+            byte[] data = savedState.getByteArray(KEY_PERSISTED_RESULT + tag);
+            if (data != null) {
+                mRestoredResults.put(tag, data);
+            } else if (mResultScope != null) {
+                mRestoredTags.put(tag, Boolean.TRUE);
+            }
+        }
+        MVPLogger.dFormat(mTag, "%s persisted results to restore", tags.size());
+    }
+
+    /**
+     * Gets the restored result of a task, the result is only restored once.
+     *
+     * @param tag        Task tag.
+     * @param serializer Serializer of the result.
+     * @param <Result>   Result type.
+     * @return The restored result, null if none.
+     */
+    private <Result> Result restoreResult(String tag, ResultSerializer<Result> serializer) {
+        byte[] data = mRestoredResults.remove(tag);
+        ResultStore resultStore = mResultStore;
+        if (data == null && resultStore != null && mRestoredTags.remove(tag) != null) {
+            try {
+                data = resultStore.get(getResultKey(tag));
+            } catch (IOException e) {
+                MVPLogger.eFormat(mTag, "Cannot read persisted result of task %s : %s", tag, e.getMessage());
+            }
+        }
+
+        if (data != null) {
+            try {
+                MVPLogger.dFormat(mTag, "Restoring persisted result of task : %s", tag);
+                return serializer.deserialize(data);
+            } catch (Exception e) {
+                MVPLogger.eFormat(mTag, "Cannot restore persisted result of task %s : %s", tag, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Saves the results of the completed persisted tasks, and the restored results not started yet.
+     *
+     * @param state Presenter bundle.
+     */
+    private void saveResults(@NonNull Bundle state) {
+        ArrayList<String> tags = new ArrayList<>();
+        ResultStore resultStore = mResultStore;
+
+        for (Map.Entry<String, PersistedResult<?>> entry : mPersistedResults.entrySet()) {
+            String tag = entry.getKey();
+            try {
+                byte[] data = entry.getValue().serialize();
+                if (data == null) {
+                    continue;
+                }
+                if (resultStore != null) {
+                    resultStore.put(getResultKey(tag), data);
+                } else {
+                    state.putByteArray(KEY_PERSISTED_RESULT + tag, data);
+                }
+                tags.add(tag);
+            } catch (Exception e) {
+                MVPLogger.eFormat(mTag, "Cannot persist result of task %s : %s", tag, e.getMessage());
+            }
+        }
+
+        for (Map.Entry<String, byte[]> entry : mRestoredResults.entrySet()) {
+            state.putByteArray(KEY_PERSISTED_RESULT + entry.getKey(), entry.getValue());
+            tags.add(entry.getKey());
+        }
+        tags.addAll(mRestoredTags.keySet());
+
+        if (!tags.isEmpty()) {
+            state.putStringArrayList(KEY_PERSISTED_TAGS, tags);
+            if (mResultScope != null) {
+                state.putString(KEY_RESULT_SCOPE, mResultScope);
+            }
+        }
+    }
+
+    /**
+     * Forgets the persisted result of a task, once delivered or canceled.
+     *
+     * @param tag Task tag.
+     */
+    private void forgetResult(String tag) {
+        PersistedResult<?> persisted = mPersistedResults.remove(tag);
+        ResultStore resultStore = mResultStore;
+        if (persisted != null && resultStore != null && mResultScope != null) {
+            resultStore.remove(getResultKey(tag));
+        }
+    }
+
+    /**
+     * Forgets all the persisted results, including the restored results not started yet.
+     */
+    private void forgetAllResults() {
+        for (String tag : mPersistedResults.keySet()) {
+            forgetResult(tag);
+        }
+        mRestoredResults.clear();
+
+        ResultStore resultStore = mResultStore;
+        for (String tag : mRestoredTags.keySet()) {
+            if (resultStore != null) {
+                resultStore.remove(getResultKey(tag));
+            }
+        }
+        mRestoredTags.clear();
+    }
+
+    /**
+     * Gets the key of a result in the result store.
+     *
+     * @param tag Task tag.
+     * @return The key of the result, unique across presenters.
+     */
+    private String getResultKey(String tag) {
+        if (mResultScope == null) {
+            mResultScope = UUID.randomUUID().toString();
+        }
+        return mResultScope + "/" + tag;
+    }
+
     /**
      * Calls the action once view is attached.
      * The tag is used to remove the observable from the task queue if not started yet.
@@ -302,12 +834,12 @@ public class RxPresenter<V> extends Presenter<V> {
      */
     private void resumeQueue(V view) {
         if (!mQueue.isEmpty()) {
-            MVPLogger.d(mTag, String.format("%s action waited for view attached to start", mQueue.size()));
+            MVPLogger.dFormat(mTag, "%s action waited for view attached to start", mQueue.size());
             Iterator<Map.Entry<String, Consumer<V>>> queueIterator = mQueue.entrySet().iterator();
             while (queueIterator.hasNext()) {
                 Map.Entry<String, Consumer<V>> next = queueIterator.next();
                 try {
-                    MVPLogger.d(mTag, String.format("Calling action for tag : %s", next.getKey()));
+                    MVPLogger.dFormat(mTag, "Calling action for tag : %s", next.getKey());
                     next.getValue().accept(view);
                 } catch (Exception e) {
                     MVPLogger.e(mTag, e.getMessage());
@@ -317,6 +849,117 @@ public class RxPresenter<V> extends Presenter<V> {
         }
     }
 
+    /**
+     * Sets the scheduler policy applied to the tasks started with default schedulers by all the presenters which do not define
+     * their own policy, e.g. {@link SchedulerPolicy#trampoline()} in JVM tests.
+     *
+     * @param schedulerPolicy Default scheduler policy, null to restore {@link SchedulerPolicy#io()}.
+     */
+    public static void setDefaultSchedulerPolicy(@Nullable SchedulerPolicy schedulerPolicy) {
+        sDefaultSchedulerPolicy = schedulerPolicy;
+    }
+
+    /**
+     * Sets the scheduler policy applied to the tasks started with default schedulers by this presenter.
+     *
+     * @param schedulerPolicy Scheduler policy, null to use the default scheduler policy.
+     */
+    public void setSchedulerPolicy(@Nullable SchedulerPolicy schedulerPolicy) {
+        mSchedulerPolicy = schedulerPolicy;
+    }
+
+    /**
+     * Sets the limiter of the running tasks shared by all the presenters, the tasks of a presenter with its own limiter wait for a
+     * slot of this limiter once they have a slot of their presenter limiter.
+     *
+     * @param taskLimiter Default task limiter, null to not limit the running tasks.
+     */
+    public static void setDefaultTaskLimiter(@Nullable TaskLimiter taskLimiter) {
+        sDefaultTaskLimiter = taskLimiter;
+    }
+
+    /**
+     * Sets the limiter of the running tasks of this presenter, it applies to the tasks started afterwards.
+     *
+     * @param taskLimiter Task limiter, null to only use the default task limiter.
+     */
+    public void setTaskLimiter(@Nullable TaskLimiter taskLimiter) {
+        mTaskLimiter = taskLimiter;
+    }
+
+    /**
+     * Gets the limiter of the running tasks of this presenter.
+     *
+     * @return The limiter of this presenter, null if it only uses the default task limiter.
+     */
+    @Nullable
+    public TaskLimiter getTaskLimiter() {
+        return mTaskLimiter;
+    }
+
+    /**
+     * Moves the queued tasks of this presenter ahead of the ones of the presenters without view when the view is attached, and
+     * behind them when it is detached.
+     */
+    private void updateTaskPriority() {
+        TaskLimiter taskLimiter = mTaskLimiter;
+        TaskLimiter defaultTaskLimiter = sDefaultTaskLimiter;
+        if (taskLimiter != null) {
+            taskLimiter.updatePriority(mLimiterOwner);
+        }
+        if (defaultTaskLimiter != null && defaultTaskLimiter != taskLimiter) {
+            defaultTaskLimiter.updatePriority(mLimiterOwner);
+        }
+    }
+
+    /**
+     * Sets the metrics sink of the tasks of all the presenters which do not define their own sink.
+     *
+     * @param taskMetrics Default metrics sink, null to not instrument the tasks.
+     */
+    public static void setDefaultTaskMetrics(@Nullable TaskMetrics taskMetrics) {
+        sDefaultTaskMetrics = taskMetrics;
+    }
+
+    /**
+     * Sets the metrics sink of the tasks started by this presenter, e.g. injected.
+     *
+     * @param taskMetrics Metrics sink, null to use the default metrics sink.
+     */
+    public void setTaskMetrics(@Nullable TaskMetrics taskMetrics) {
+        mTaskMetrics = taskMetrics;
+    }
+
+    /**
+     * Creates the stats of a task if there is a metrics sink.
+     *
+     * @param tag Task tag.
+     * @return The stats to instrument the task with, null if the tasks are not instrumented.
+     */
+    @Nullable
+    private TaskStats createTaskStats(String tag) {
+        TaskMetrics taskMetrics = mTaskMetrics;
+        if (taskMetrics == null) {
+            taskMetrics = sDefaultTaskMetrics;
+        }
+        // noinspection unchecked
+        return taskMetrics == null ? null : new TaskStats((Class<? extends RxPresenter>) getClass(), tag, taskMetrics, mView);
+    }
+
+    /**
+     * Gets the scheduler policy applied to the tasks started with default schedulers.
+     *
+     * @return The policy of this presenter if any, else the default scheduler policy.
+     */
+    @NonNull
+    public SchedulerPolicy getSchedulerPolicy() {
+        SchedulerPolicy schedulerPolicy = mSchedulerPolicy;
+        if (schedulerPolicy == null) {
+            schedulerPolicy = sDefaultSchedulerPolicy;
+        }
+        return schedulerPolicy != null ? schedulerPolicy : SchedulerPolicy.io();
+    }
+
     /**
      * Gets if a task is still running by checking if it exists in the cache.
      *
@@ -336,8 +979,8 @@ public class RxPresenter<V> extends Presenter<V> {
      * Otherwise it will be added in the cache and started.
      * </p>
      * <p>
-     * The withDefaultSchedulers parameter is used to attach or not the observable to default schedulers ({@link
-     * RxUtils#observableIOSchedulerTransformer}).
+     * The withDefaultSchedulers parameter is used to attach or not the observable to the schedulers of {@link
+     * #getSchedulerPolicy()}.
      * </p>
      *
      * @param tag                   Observable tag.
@@ -350,122 +993,412 @@ public class RxPresenter<V> extends Presenter<V> {
      */
     public <Result> void start(@NonNull final String tag, @NonNull Observable<Result> observable, boolean withDefaultSchedulers,
             @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, observable, withDefaultSchedulers, ReplayPolicy.unbounded(), onNext, onError, onCompleted);
+    }
 
-        // noinspection unchecked
-        CacheableStream<V, Result> cached = (CacheableStream<V, Result>) mCache.get(tag);
+    /**
+     * <p>
+     * Starts an observable with a replay policy.
+     * </p>
+     * <p>
+     * If an existing observable with the same tag exists in cache, the observable will be resumed.
+     * Otherwise it will be added in the cache and started.
+     * </p>
+     * <p>
+     * The replay policy defines which items emitted by the observable are kept while the view is detached, and delivered when the
+     * view is attached again. Use a bounded policy for observables emitting a lot of items.
+     * </p>
+     *
+     * @param tag                   Observable tag.
+     * @param observable            Observable to start.
+     * @param withDefaultSchedulers True if default schedulers should be applied.
+     * @param replayPolicy          Policy defining the items replayed when the view is attached again.
+     * @param onNext                OnNext action to call
+     * @param onError               OnError action to call
+     * @param onCompleted           OnCompleted action to call
+     * @param <Result>              Result type of the observable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Observable<Result> observable, boolean withDefaultSchedulers,
+            @NonNull ReplayPolicy replayPolicy, @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError,
+            @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, observable, withDefaultSchedulers ? getSchedulerPolicy() : null, replayPolicy, onNext, onError, onCompleted);
+    }
 
-        if (!mCache.containsKey(tag)) {
-            MVPLogger.d(mTag, String.format("Starting task : %s", tag));
-            if (withDefaultSchedulers) {
-                observable = observable.compose(RxUtils.<Result>applyObservableIOScheduler());
-            }
-            cached = new CacheableStream<>(
-                    observable,
-                    mView,
-                    getCacheableStreamConsumer(tag, onNext, onError, onCompleted));
+    /**
+     * <p>
+     * Starts an observable with a scheduler policy and a replay policy.
+     * </p>
+     * <p>
+     * If an existing observable with the same tag exists in cache, the observable will be resumed.
+     * Otherwise it will be added in the cache and started.
+     * </p>
+     * <p>
+     * The scheduler policy overrides {@link #getSchedulerPolicy()} for this observable only. The replay policy defines which items
+     * emitted by the observable are kept while the view is detached, and delivered when the view is attached again.
+     * </p>
+     *
+     * @param tag             Observable tag.
+     * @param observable      Observable to start.
+     * @param schedulerPolicy Schedulers to attach the observable to, null to not apply any scheduler.
+     * @param replayPolicy    Policy defining the items replayed when the view is attached again.
+     * @param onNext          OnNext action to call
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the observable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Observable<Result> observable, @Nullable SchedulerPolicy schedulerPolicy,
+            @NonNull ReplayPolicy replayPolicy, @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError,
+            @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, observable, schedulerPolicy, replayPolicy, StartMode.RESUME, onNext, onError, onCompleted);
+    }
 
-            if (!mCache.containsKey(tag)) {
-                mCache.put(tag, cached);
-            } else {
-                cached.cancel();
-                // noinspection unchecked
-                cached = (CacheableStream<V, Result>) mCache.get(tag);
+    /**
+     * <p>
+     * Starts an observable with a scheduler policy, a replay policy and a start mode.
+     * </p>
+     * <p>
+     * The start mode defines what is done if a task with the same tag exists in cache, see {@link StartMode}.
+     * Otherwise the observable will be added in the cache and started.
+     * </p>
+     * <p>
+     * The scheduler policy overrides {@link #getSchedulerPolicy()} for this observable only. The replay policy defines which items
+     * emitted by the observable are kept while the view is detached, and delivered when the view is attached again.
+     * </p>
+     *
+     * @param tag             Observable tag.
+     * @param observable      Observable to start.
+     * @param schedulerPolicy Schedulers to attach the observable to, null to not apply any scheduler.
+     * @param replayPolicy    Policy defining the items replayed when the view is attached again.
+     * @param startMode       What is done if a task with the same tag exists in cache.
+     * @param onNext          OnNext action to call
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the observable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull final Observable<Result> observable,
+            @Nullable final SchedulerPolicy schedulerPolicy, @NonNull final ReplayPolicy replayPolicy, @NonNull StartMode startMode,
+            @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        startTask(tag, startMode, new TaskFactory<V, Result>() {
+            @Override
+            public CacheableStream<V, Result> create() {
+                Observable<Result> task = observable;
+                if (schedulerPolicy != null) {
+                    task = schedulerPolicy.apply(task);
+                }
+                // The default limiter is applied first so that a task waits for a slot of its presenter before taking a shared one
+                TaskLimiter taskLimiter = mTaskLimiter;
+                TaskLimiter defaultTaskLimiter = sDefaultTaskLimiter;
+                if (defaultTaskLimiter != null && defaultTaskLimiter != taskLimiter) {
+                    task = defaultTaskLimiter.apply(task, mLimiterOwner);
+                }
+                if (taskLimiter != null) {
+                    task = taskLimiter.apply(task, mLimiterOwner);
+                }
+                TaskStats stats = createTaskStats(tag);
+                if (stats != null) {
+                    task = stats.instrument(task);
+                }
+                CacheableStream<V, Result> cached = new CacheableStream<>(
+                        task,
+                        mView,
+                        replayPolicy,
+                        getCacheableStreamConsumer(tag, onNext, onError, onCompleted));
+                cached.setStats(stats);
+                return cached;
             }
-        } else {
-            MVPLogger.d(mTag, String.format("Resuming task : %s", tag));
-        }
+        });
+    }
 
-        if (cached != null) {
-            cached.resume();
-        }
+    /**
+     * <p>
+     * Shortcut for {@link #start(String, Observable, boolean, OnNext, OnError, OnCompleted)} method but with no {@link OnCompleted}
+     * action.
+     * </p>
+     * <p>
+     * Observable are attached with default schedulers ({@link #getSchedulerPolicy()}).
+     * </p>
+     *
+     * @param tag         Observable tag.
+     * @param observable  Observable to start.
+     * @param onNext      OnNext action to call
+     * @param onError     OnError action to call
+     * @param onCompleted OnCompleted action to call
+     * @param <Result>    Result type of the observable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Observable<Result> observable, @Nullable final OnNext<V, Result> onNext,
+            @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, observable, true, onNext, onError, onCompleted);
+    }
+
+    /**
+     * <p>
+     * Shortcut for {@link #start(String, Observable, boolean, ReplayPolicy, OnNext, OnError, OnCompleted)} method with default
+     * schedulers ({@link #getSchedulerPolicy()}).
+     * </p>
+     *
+     * @param tag          Observable tag.
+     * @param observable   Observable to start.
+     * @param replayPolicy Policy defining the items replayed when the view is attached again.
+     * @param onNext       OnNext action to call
+     * @param onError      OnError action to call
+     * @param onCompleted  OnCompleted action to call
+     * @param <Result>     Result type of the observable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Observable<Result> observable, @NonNull ReplayPolicy replayPolicy,
+            @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, observable, true, replayPolicy, onNext, onError, onCompleted);
+    }
+
+    /**
+     * Shortcut for {@link #start(String, Observable, SchedulerPolicy, ReplayPolicy, OnNext, OnError, OnCompleted)} method with an
+     * unbounded replay policy.
+     *
+     * @param tag             Observable tag.
+     * @param observable      Observable to start.
+     * @param schedulerPolicy Schedulers to attach the observable to, null to not apply any scheduler.
+     * @param onNext          OnNext action to call
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the observable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Observable<Result> observable, @Nullable SchedulerPolicy schedulerPolicy,
+            @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, observable, schedulerPolicy, ReplayPolicy.unbounded(), onNext, onError, onCompleted);
+    }
+
+    /**
+     * Shortcut for {@link #start(String, Observable, OnNext, OnError, OnCompleted)} method but with no {@link OnCompleted} action.<br />
+     *
+     * @param tag        Observable tag.
+     * @param observable Observable to start.
+     * @param onNext     OnNext action to call
+     * @param onError    OnError action to call
+     * @param <Result>   Result type of the observable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Observable<Result> observable, @Nullable final OnNext<V, Result> onNext,
+            @Nullable final OnError<V> onError) {
+        start(tag, observable, onNext, onError, null);
     }
 
     /**
      * <p>
-     * Shortcut for {@link #start(String, Observable, boolean, OnNext, OnError, OnCompleted)} method but with no {@link OnCompleted}
-     * action.
+     * Starts an observable whose items are delivered in batches.
+     * </p>
+     * <p>
+     * If an existing observable with the same tag exists in cache, the observable will be resumed.
+     * Otherwise it will be added in the cache and started.
      * </p>
      * <p>
-     * Observable are attached with default schedulers ({@link RxUtils#observableIOSchedulerTransformer}).
+     * The items emitted until the next frame or during the time window of the batch policy are delivered at once to the onNext
+     * action. Only the subscribe scheduler of the scheduler policy is applied, batches are delivered by the batch policy. The
+     * replay policy applies to the batches.
      * </p>
      *
+     * @param tag             Observable tag.
+     * @param observable      Observable to start.
+     * @param schedulerPolicy Schedulers to subscribe to the observable on, null to not apply any scheduler.
+     * @param replayPolicy    Policy defining the batches replayed when the view is attached again.
+     * @param batchPolicy     Policy defining when the batches are delivered.
+     * @param onNext          OnNext action to call with each batch
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the observable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Observable<Result> observable, @Nullable SchedulerPolicy schedulerPolicy,
+            @NonNull ReplayPolicy replayPolicy, @NonNull BatchPolicy batchPolicy, @Nullable final OnNext<V, List<Result>> onNext,
+            @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        if (schedulerPolicy != null) {
+            observable = observable.subscribeOn(schedulerPolicy.getSubscribeOn());
+        }
+        start(tag, batchPolicy.apply(observable), null, replayPolicy, onNext, onError, onCompleted);
+    }
+
+    /**
+     * Shortcut for {@link #start(String, Observable, SchedulerPolicy, ReplayPolicy, BatchPolicy, OnNext, OnError, OnCompleted)}
+     * method with default schedulers ({@link #getSchedulerPolicy()}) and an unbounded replay policy.
+     *
      * @param tag         Observable tag.
      * @param observable  Observable to start.
-     * @param onNext      OnNext action to call
+     * @param batchPolicy Policy defining when the batches are delivered.
+     * @param onNext      OnNext action to call with each batch
      * @param onError     OnError action to call
      * @param onCompleted OnCompleted action to call
      * @param <Result>    Result type of the observable.
      */
-    public <Result> void start(@NonNull final String tag, @NonNull Observable<Result> observable, @Nullable final OnNext<V, Result> onNext,
-            @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
-        start(tag, observable, true, onNext, onError, onCompleted);
+    public <Result> void start(@NonNull final String tag, @NonNull Observable<Result> observable, @NonNull BatchPolicy batchPolicy,
+            @Nullable final OnNext<V, List<Result>> onNext, @Nullable final OnError<V> onError,
+            @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, observable, getSchedulerPolicy(), ReplayPolicy.unbounded(), batchPolicy, onNext, onError, onCompleted);
     }
 
     /**
-     * Shortcut for {@link #start(String, Observable, OnNext, OnError, OnCompleted)} method but with no {@link OnCompleted} action.<br />
+     * <p>
+     * Starts a flowable.
+     * </p>
+     * <p>
+     * If an existing flowable with the same tag exists in cache, the flowable will be resumed.
+     * Otherwise it will be added in the cache and started.
+     * </p>
+     * <p>
+     * The withDefaultSchedulers parameter is used to attach or not the flowable to the schedulers of {@link
+     * #getSchedulerPolicy()}.
+     * </p>
      *
-     * @param tag        Observable tag.
-     * @param observable Observable to start.
-     * @param onNext     OnNext action to call
-     * @param onError    OnError action to call
-     * @param <Result>   Result type of the observable.
+     * @param tag                   Flowable tag.
+     * @param flowable              Flowable to start.
+     * @param withDefaultSchedulers True if default schedulers should be applied.
+     * @param onNext                OnNext action to call
+     * @param onError               OnError action to call
+     * @param onCompleted           OnCompleted action to call
+     * @param <Result>              Result type of the flowable.
      */
-    public <Result> void start(@NonNull final String tag, @NonNull Observable<Result> observable, @Nullable final OnNext<V, Result> onNext,
-            @Nullable final OnError<V> onError) {
-        start(tag, observable, onNext, onError, null);
+    public <Result> void start(@NonNull final String tag, @NonNull Flowable<Result> flowable, boolean withDefaultSchedulers,
+            @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, flowable, withDefaultSchedulers, ReplayPolicy.unbounded(), onNext, onError, onCompleted);
     }
 
     /**
      * <p>
-     * Starts a flowable.
+     * Starts a flowable with a replay policy.
      * </p>
      * <p>
      * If an existing flowable with the same tag exists in cache, the flowable will be resumed.
      * Otherwise it will be added in the cache and started.
      * </p>
      * <p>
-     * The withDefaultSchedulers parameter is used to attach or not the flowable to default schedulers ({@link
-     * RxUtils#applyFlowableIOScheduler()}).
+     * The replay policy defines which items emitted by the flowable are kept while the view is detached, and delivered when the
+     * view is attached again. Use a bounded policy for flowables emitting a lot of items.
      * </p>
      *
      * @param tag                   Flowable tag.
      * @param flowable              Flowable to start.
      * @param withDefaultSchedulers True if default schedulers should be applied.
+     * @param replayPolicy          Policy defining the items replayed when the view is attached again.
      * @param onNext                OnNext action to call
      * @param onError               OnError action to call
      * @param onCompleted           OnCompleted action to call
      * @param <Result>              Result type of the flowable.
      */
     public <Result> void start(@NonNull final String tag, @NonNull Flowable<Result> flowable, boolean withDefaultSchedulers,
-            @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+            @NonNull ReplayPolicy replayPolicy, @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError,
+            @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, flowable, withDefaultSchedulers ? getSchedulerPolicy() : null, replayPolicy, onNext, onError, onCompleted);
+    }
 
-        // noinspection unchecked
-        CacheableStream<V, Result> cached = (CacheableStream<V, Result>) mCache.get(tag);
+    /**
+     * <p>
+     * Starts a flowable with a scheduler policy and a replay policy.
+     * </p>
+     * <p>
+     * If an existing flowable with the same tag exists in cache, the flowable will be resumed.
+     * Otherwise it will be added in the cache and started.
+     * </p>
+     * <p>
+     * The scheduler policy overrides {@link #getSchedulerPolicy()} for this flowable only. The replay policy defines which items
+     * emitted by the flowable are kept while the view is detached, and delivered when the view is attached again.
+     * </p>
+     *
+     * @param tag             Flowable tag.
+     * @param flowable        Flowable to start.
+     * @param schedulerPolicy Schedulers to attach the flowable to, null to not apply any scheduler.
+     * @param replayPolicy    Policy defining the items replayed when the view is attached again.
+     * @param onNext          OnNext action to call
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the flowable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Flowable<Result> flowable, @Nullable SchedulerPolicy schedulerPolicy,
+            @NonNull ReplayPolicy replayPolicy, @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError,
+            @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, flowable, schedulerPolicy, replayPolicy, DetachPolicy.keepRequesting(), onNext, onError, onCompleted);
+    }
 
-        if (!mCache.containsKey(tag)) {
-            MVPLogger.d(mTag, String.format("Starting task : %s", tag));
-            if (withDefaultSchedulers) {
-                flowable = flowable.compose(RxUtils.<Result>applyFlowableIOScheduler());
-            }
-            cached = new CacheableStream<>(
-                    flowable,
-                    mView,
-                    getCacheableStreamConsumer(tag, onNext, onError, onCompleted));
+    /**
+     * <p>
+     * Starts a flowable with a scheduler policy, a replay policy and a detach policy.
+     * </p>
+     * <p>
+     * If an existing flowable with the same tag exists in cache, the flowable will be resumed.
+     * Otherwise it will be added in the cache and started.
+     * </p>
+     * <p>
+     * The detach policy defines if the flowable is still requested while the view is detached, use
+     * {@link DetachPolicy#pauseUpstream()} for long producers which should not work while the screen is in the background.
+     * </p>
+     *
+     * @param tag             Flowable tag.
+     * @param flowable        Flowable to start.
+     * @param schedulerPolicy Schedulers to attach the flowable to, null to not apply any scheduler.
+     * @param replayPolicy    Policy defining the items replayed when the view is attached again.
+     * @param detachPolicy    Policy defining how the flowable is requested while the view is detached.
+     * @param onNext          OnNext action to call
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the flowable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Flowable<Result> flowable, @Nullable SchedulerPolicy schedulerPolicy,
+            @NonNull ReplayPolicy replayPolicy, @NonNull DetachPolicy detachPolicy, @Nullable final OnNext<V, Result> onNext,
+            @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, flowable, schedulerPolicy, replayPolicy, detachPolicy, StartMode.RESUME, onNext, onError, onCompleted);
+    }
 
-            if (!mCache.containsKey(tag)) {
-                mCache.put(tag, cached);
-            } else {
-                cached.cancel();
-                // noinspection unchecked
-                cached = (CacheableStream<V, Result>) mCache.get(tag);
+    /**
+     * <p>
+     * Starts a flowable with a scheduler policy, a replay policy, a detach policy and a start mode.
+     * </p>
+     * <p>
+     * The start mode defines what is done if a task with the same tag exists in cache, see {@link StartMode}.
+     * Otherwise the flowable will be added in the cache and started.
+     * </p>
+     * <p>
+     * The detach policy defines if the flowable is still requested while the view is detached, use
+     * {@link DetachPolicy#pauseUpstream()} for long producers which should not work while the screen is in the background.
+     * </p>
+     *
+     * @param tag             Flowable tag.
+     * @param flowable        Flowable to start.
+     * @param schedulerPolicy Schedulers to attach the flowable to, null to not apply any scheduler.
+     * @param replayPolicy    Policy defining the items replayed when the view is attached again.
+     * @param detachPolicy    Policy defining how the flowable is requested while the view is detached.
+     * @param startMode       What is done if a task with the same tag exists in cache.
+     * @param onNext          OnNext action to call
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the flowable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull final Flowable<Result> flowable,
+            @Nullable final SchedulerPolicy schedulerPolicy, @NonNull final ReplayPolicy replayPolicy,
+            @NonNull final DetachPolicy detachPolicy, @NonNull StartMode startMode, @Nullable final OnNext<V, Result> onNext,
+            @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        startTask(tag, startMode, new TaskFactory<V, Result>() {
+            @Override
+            public CacheableStream<V, Result> create() {
+                Flowable<Result> task = flowable;
+                if (schedulerPolicy != null) {
+                    task = schedulerPolicy.apply(task);
+                }
+                TaskLimiter taskLimiter = mTaskLimiter;
+                TaskLimiter defaultTaskLimiter = sDefaultTaskLimiter;
+                if (defaultTaskLimiter != null && defaultTaskLimiter != taskLimiter) {
+                    task = defaultTaskLimiter.apply(task, mLimiterOwner);
+                }
+                if (taskLimiter != null) {
+                    task = taskLimiter.apply(task, mLimiterOwner);
+                }
+                TaskStats stats = createTaskStats(tag);
+                if (stats != null) {
+                    task = stats.instrument(task);
+                }
+                CacheableStream<V, Result> cached = new CacheableStream<>(
+                        task,
+                        mView,
+                        replayPolicy,
+                        detachPolicy,
+                        getCacheableStreamConsumer(tag, onNext, onError, onCompleted));
+                cached.setStats(stats);
+                return cached;
             }
-        } else {
-            MVPLogger.d(mTag, String.format("Resuming task : %s", tag));
-        }
-
-        if (cached != null) {
-            cached.resume();
-        }
+        });
     }
 
     /**
@@ -474,7 +1407,7 @@ public class RxPresenter<V> extends Presenter<V> {
      * action.
      * </p>
      * <p>
-     * Observable are attached with default schedulers ({@link RxUtils#applyFlowableIOScheduler()}).
+     * Flowable are attached with default schedulers ({@link #getSchedulerPolicy()}).
      * </p>
      *
      * @param tag         Flowable tag.
@@ -489,6 +1422,42 @@ public class RxPresenter<V> extends Presenter<V> {
         start(tag, flowable, true, onNext, onError, onCompleted);
     }
 
+    /**
+     * <p>
+     * Shortcut for {@link #start(String, Flowable, boolean, ReplayPolicy, OnNext, OnError, OnCompleted)} method with default
+     * schedulers ({@link #getSchedulerPolicy()}).
+     * </p>
+     *
+     * @param tag          Flowable tag.
+     * @param flowable     Flowable to start.
+     * @param replayPolicy Policy defining the items replayed when the view is attached again.
+     * @param onNext       OnNext action to call
+     * @param onError      OnError action to call
+     * @param onCompleted  OnCompleted action to call
+     * @param <Result>     Result type of the flowable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Flowable<Result> flowable, @NonNull ReplayPolicy replayPolicy,
+            @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, flowable, true, replayPolicy, onNext, onError, onCompleted);
+    }
+
+    /**
+     * Shortcut for {@link #start(String, Flowable, SchedulerPolicy, ReplayPolicy, OnNext, OnError, OnCompleted)} method with an
+     * unbounded replay policy.
+     *
+     * @param tag             Flowable tag.
+     * @param flowable        Flowable to start.
+     * @param schedulerPolicy Schedulers to attach the flowable to, null to not apply any scheduler.
+     * @param onNext          OnNext action to call
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the flowable.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Flowable<Result> flowable, @Nullable SchedulerPolicy schedulerPolicy,
+            @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, flowable, schedulerPolicy, ReplayPolicy.unbounded(), onNext, onError, onCompleted);
+    }
+
     /**
      * Shortcut for {@link #start(String, Flowable, OnNext, OnError, OnCompleted)} method but with no {@link OnCompleted} action.<br />
      *
@@ -512,8 +1481,8 @@ public class RxPresenter<V> extends Presenter<V> {
      * Otherwise it will be added in the cache and started.
      * </p>
      * <p>
-     * The withDefaultSchedulers parameter is used to attach or not the single to default schedulers ({@link
-     * RxUtils#applySingleIOScheduler()}).
+     * The withDefaultSchedulers parameter is used to attach or not the single to the schedulers of {@link
+     * #getSchedulerPolicy()}.
      * </p>
      *
      * @param tag                   Single tag.
@@ -526,34 +1495,85 @@ public class RxPresenter<V> extends Presenter<V> {
      */
     public <Result> void start(@NonNull final String tag, @NonNull Single<Result> single, boolean withDefaultSchedulers,
             @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, single, withDefaultSchedulers ? getSchedulerPolicy() : null, onNext, onError, onCompleted);
+    }
 
-        // noinspection unchecked
-        CacheableStream<V, Result> cached = (CacheableStream<V, Result>) mCache.get(tag);
-
-        if (!mCache.containsKey(tag)) {
-            MVPLogger.d(mTag, String.format("Starting task : %s", tag));
-            if (withDefaultSchedulers) {
-                single = single.compose(RxUtils.<Result>applySingleIOScheduler());
-            }
-            cached = new CacheableStream<>(
-                    single,
-                    mView,
-                    getCacheableStreamConsumer(tag, onNext, onError, onCompleted));
+    /**
+     * <p>
+     * Starts a single with a scheduler policy.
+     * </p>
+     * <p>
+     * If an existing single with the same tag exists in cache, the single will be resumed.
+     * Otherwise it will be added in the cache and started.
+     * </p>
+     * <p>
+     * The scheduler policy overrides {@link #getSchedulerPolicy()} for this single only.
+     * </p>
+     *
+     * @param tag             Single tag.
+     * @param single          Single to start.
+     * @param schedulerPolicy Schedulers to attach the single to, null to not apply any scheduler.
+     * @param onNext          OnNext action to call
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the single.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Single<Result> single, @Nullable SchedulerPolicy schedulerPolicy,
+            @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, single, schedulerPolicy, StartMode.RESUME, onNext, onError, onCompleted);
+    }
 
-            if (!mCache.containsKey(tag)) {
-                mCache.put(tag, cached);
-            } else {
-                cached.cancel();
-                // noinspection unchecked
-                cached = (CacheableStream<V, Result>) mCache.get(tag);
+    /**
+     * <p>
+     * Starts a single with a scheduler policy and a start mode.
+     * </p>
+     * <p>
+     * The start mode defines what is done if a task with the same tag exists in cache, see {@link StartMode}.
+     * Otherwise the single will be added in the cache and started.
+     * </p>
+     * <p>
+     * The scheduler policy overrides {@link #getSchedulerPolicy()} for this single only.
+     * </p>
+     *
+     * @param tag             Single tag.
+     * @param single          Single to start.
+     * @param schedulerPolicy Schedulers to attach the single to, null to not apply any scheduler.
+     * @param startMode       What is done if a task with the same tag exists in cache.
+     * @param onNext          OnNext action to call
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the single.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull final Single<Result> single,
+            @Nullable final SchedulerPolicy schedulerPolicy, @NonNull StartMode startMode, @Nullable final OnNext<V, Result> onNext,
+            @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        startTask(tag, startMode, new TaskFactory<V, Result>() {
+            @Override
+            public CacheableStream<V, Result> create() {
+                Single<Result> task = single;
+                if (schedulerPolicy != null) {
+                    task = schedulerPolicy.apply(task);
+                }
+                TaskLimiter taskLimiter = mTaskLimiter;
+                TaskLimiter defaultTaskLimiter = sDefaultTaskLimiter;
+                if (defaultTaskLimiter != null && defaultTaskLimiter != taskLimiter) {
+                    task = defaultTaskLimiter.apply(task, mLimiterOwner);
+                }
+                if (taskLimiter != null) {
+                    task = taskLimiter.apply(task, mLimiterOwner);
+                }
+                TaskStats stats = createTaskStats(tag);
+                if (stats != null) {
+                    task = stats.instrument(task);
+                }
+                CacheableStream<V, Result> cached = new CacheableStream<>(
+                        task,
+                        mView,
+                        getCacheableStreamConsumer(tag, onNext, onError, onCompleted));
+                cached.setStats(stats);
+                return cached;
             }
-        } else {
-            MVPLogger.d(mTag, String.format("Resuming task : %s", tag));
-        }
-
-        if (cached != null) {
-            cached.resume();
-        }
+        });
     }
 
     /**
@@ -562,7 +1582,7 @@ public class RxPresenter<V> extends Presenter<V> {
      * action.
      * </p>
      * <p>
-     * Observable are attached with default schedulers ({@link RxUtils#applySingleIOScheduler()}).
+     * Single are attached with default schedulers ({@link #getSchedulerPolicy()}).
      * </p>
      *
      * @param tag         Single tag.
@@ -600,8 +1620,8 @@ public class RxPresenter<V> extends Presenter<V> {
      * Otherwise it will be added in the cached and started.
      * </p>
      * <p>
-     * The withDefaultSchedulers parameter is used to attach or not the completable to default schedulers ({@link
-     * RxUtils#applyCompletableIOScheduler}).
+     * The withDefaultSchedulers parameter is used to attach or not the completable to the schedulers of {@link
+     * #getSchedulerPolicy()}.
      * </p>
      *
      * @param tag                   Completable tag.
@@ -612,34 +1632,81 @@ public class RxPresenter<V> extends Presenter<V> {
      */
     public void start(@NonNull final String tag, @NonNull Completable completable, boolean withDefaultSchedulers,
             @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, completable, withDefaultSchedulers ? getSchedulerPolicy() : null, onError, onCompleted);
+    }
 
-        // noinspection unchecked
-        CacheableStream<V, Object> cached = (CacheableStream<V, Object>) mCache.get(tag);
-
-        if (!mCache.containsKey(tag)) {
-            MVPLogger.d(mTag, String.format("Starting task : %s", tag));
-            if (withDefaultSchedulers) {
-                completable = completable.compose(RxUtils.applyCompletableIOScheduler());
-            }
-            cached = new CacheableStream<>(
-                    completable,
-                    mView,
-                    getCacheableStreamConsumer(tag, null, onError, onCompleted));
+    /**
+     * <p>
+     * Starts a completable with a scheduler policy.
+     * </p>
+     * <p>
+     * If an existing completable with the same tag exists in cache, the completable will be resumed.
+     * Otherwise it will be added in the cached and started.
+     * </p>
+     * <p>
+     * The scheduler policy overrides {@link #getSchedulerPolicy()} for this completable only.
+     * </p>
+     *
+     * @param tag             Completable tag.
+     * @param completable     Completable to start.
+     * @param schedulerPolicy Schedulers to attach the completable to, null to not apply any scheduler.
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     */
+    public void start(@NonNull final String tag, @NonNull Completable completable, @Nullable SchedulerPolicy schedulerPolicy,
+            @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, completable, schedulerPolicy, StartMode.RESUME, onError, onCompleted);
+    }
 
-            if (!mCache.containsKey(tag)) {
-                mCache.put(tag, cached);
-            } else {
-                cached.cancel();
-                // noinspection unchecked
-                cached = (CacheableStream<V, Object>) mCache.get(tag);
+    /**
+     * <p>
+     * Starts a completable with a scheduler policy and a start mode.
+     * </p>
+     * <p>
+     * The start mode defines what is done if a task with the same tag exists in cache, see {@link StartMode}.
+     * Otherwise the completable will be added in the cache and started.
+     * </p>
+     * <p>
+     * The scheduler policy overrides {@link #getSchedulerPolicy()} for this completable only.
+     * </p>
+     *
+     * @param tag             Completable tag.
+     * @param completable     Completable to start.
+     * @param schedulerPolicy Schedulers to attach the completable to, null to not apply any scheduler.
+     * @param startMode       What is done if a task with the same tag exists in cache.
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     */
+    public void start(@NonNull final String tag, @NonNull final Completable completable,
+            @Nullable final SchedulerPolicy schedulerPolicy, @NonNull StartMode startMode, @Nullable final OnError<V> onError,
+            @Nullable final OnCompleted<V> onCompleted) {
+        startTask(tag, startMode, new TaskFactory<V, Object>() {
+            @Override
+            public CacheableStream<V, Object> create() {
+                Completable task = completable;
+                if (schedulerPolicy != null) {
+                    task = schedulerPolicy.apply(task);
+                }
+                TaskLimiter taskLimiter = mTaskLimiter;
+                TaskLimiter defaultTaskLimiter = sDefaultTaskLimiter;
+                if (defaultTaskLimiter != null && defaultTaskLimiter != taskLimiter) {
+                    task = defaultTaskLimiter.apply(task, mLimiterOwner);
+                }
+                if (taskLimiter != null) {
+                    task = taskLimiter.apply(task, mLimiterOwner);
+                }
+                TaskStats stats = createTaskStats(tag);
+                if (stats != null) {
+                    task = stats.instrument(task);
+                }
+                CacheableStream<V, Object> cached = new CacheableStream<>(
+                        task,
+                        mView,
+                        getCacheableStreamConsumer(tag, null, onError, onCompleted));
+                cached.setStats(stats);
+                return cached;
             }
-        } else {
-            MVPLogger.d(mTag, String.format("Resuming task : %s", tag));
-        }
-
-        if (cached != null) {
-            cached.resume();
-        }
+        });
     }
 
     /**
@@ -648,7 +1715,7 @@ public class RxPresenter<V> extends Presenter<V> {
      * action.
      * </p>
      * <p>
-     * Observable are attached with default schedulers ({@link RxUtils#applyCompletableIOScheduler()}).
+     * Completable are attached with default schedulers ({@link #getSchedulerPolicy()}).
      * </p>
      *
      * @param tag         Completable tag.
@@ -670,8 +1737,8 @@ public class RxPresenter<V> extends Presenter<V> {
      * Otherwise it will be added in the cache and started.
      * </p>
      * <p>
-     * The withDefaultSchedulers parameter is used to attach or not the maybe to default schedulers ({@link
-     * RxUtils#applyMaybeIOScheduler}).
+     * The withDefaultSchedulers parameter is used to attach or not the maybe to the schedulers of {@link
+     * #getSchedulerPolicy()}.
      * </p>
      *
      * @param tag                   Maybe tag.
@@ -684,34 +1751,85 @@ public class RxPresenter<V> extends Presenter<V> {
      */
     public <Result> void start(@NonNull final String tag, @NonNull Maybe<Result> maybe, boolean withDefaultSchedulers,
             @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, maybe, withDefaultSchedulers ? getSchedulerPolicy() : null, onNext, onError, onCompleted);
+    }
 
-        // noinspection unchecked
-        CacheableStream<V, Result> cached = (CacheableStream<V, Result>) mCache.get(tag);
-
-        if (!mCache.containsKey(tag)) {
-            MVPLogger.d(mTag, String.format("Starting task : %s", tag));
-            if (withDefaultSchedulers) {
-                maybe = maybe.compose(RxUtils.<Result>applyMaybeIOScheduler());
-            }
-            cached = new CacheableStream<>(
-                    maybe,
-                    mView,
-                    getCacheableStreamConsumer(tag, onNext, onError, onCompleted));
+    /**
+     * <p>
+     * Starts a maybe with a scheduler policy.
+     * </p>
+     * <p>
+     * If an existing maybe with the same tag exists in cache, the maybe will be resumed.
+     * Otherwise it will be added in the cache and started.
+     * </p>
+     * <p>
+     * The scheduler policy overrides {@link #getSchedulerPolicy()} for this maybe only.
+     * </p>
+     *
+     * @param tag             Maybe tag.
+     * @param maybe           Maybe to start.
+     * @param schedulerPolicy Schedulers to attach the maybe to, null to not apply any scheduler.
+     * @param onNext          OnNext action to call
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the maybe.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull Maybe<Result> maybe, @Nullable SchedulerPolicy schedulerPolicy,
+            @Nullable final OnNext<V, Result> onNext, @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        start(tag, maybe, schedulerPolicy, StartMode.RESUME, onNext, onError, onCompleted);
+    }
 
-            if (!mCache.containsKey(tag)) {
-                mCache.put(tag, cached);
-            } else {
-                cached.cancel();
-                // noinspection unchecked
-                cached = (CacheableStream<V, Result>) mCache.get(tag);
+    /**
+     * <p>
+     * Starts a maybe with a scheduler policy and a start mode.
+     * </p>
+     * <p>
+     * The start mode defines what is done if a task with the same tag exists in cache, see {@link StartMode}.
+     * Otherwise the maybe will be added in the cache and started.
+     * </p>
+     * <p>
+     * The scheduler policy overrides {@link #getSchedulerPolicy()} for this maybe only.
+     * </p>
+     *
+     * @param tag             Maybe tag.
+     * @param maybe           Maybe to start.
+     * @param schedulerPolicy Schedulers to attach the maybe to, null to not apply any scheduler.
+     * @param startMode       What is done if a task with the same tag exists in cache.
+     * @param onNext          OnNext action to call
+     * @param onError         OnError action to call
+     * @param onCompleted     OnCompleted action to call
+     * @param <Result>        Result type of the maybe.
+     */
+    public <Result> void start(@NonNull final String tag, @NonNull final Maybe<Result> maybe,
+            @Nullable final SchedulerPolicy schedulerPolicy, @NonNull StartMode startMode, @Nullable final OnNext<V, Result> onNext,
+            @Nullable final OnError<V> onError, @Nullable final OnCompleted<V> onCompleted) {
+        startTask(tag, startMode, new TaskFactory<V, Result>() {
+            @Override
+            public CacheableStream<V, Result> create() {
+                Maybe<Result> task = maybe;
+                if (schedulerPolicy != null) {
+                    task = schedulerPolicy.apply(task);
+                }
+                TaskLimiter taskLimiter = mTaskLimiter;
+                TaskLimiter defaultTaskLimiter = sDefaultTaskLimiter;
+                if (defaultTaskLimiter != null && defaultTaskLimiter != taskLimiter) {
+                    task = defaultTaskLimiter.apply(task, mLimiterOwner);
+                }
+                if (taskLimiter != null) {
+                    task = taskLimiter.apply(task, mLimiterOwner);
+                }
+                TaskStats stats = createTaskStats(tag);
+                if (stats != null) {
+                    task = stats.instrument(task);
+                }
+                CacheableStream<V, Result> cached = new CacheableStream<>(
+                        task,
+                        mView,
+                        getCacheableStreamConsumer(tag, onNext, onError, onCompleted));
+                cached.setStats(stats);
+                return cached;
             }
-        } else {
-            MVPLogger.d(mTag, String.format("Resuming task : %s", tag));
-        }
-
-        if (cached != null) {
-            cached.resume();
-        }
+        });
     }
 
     /**
@@ -720,7 +1838,7 @@ public class RxPresenter<V> extends Presenter<V> {
      * action.
      * </p>
      * <p>
-     * Maybe are attached with default schedulers ({@link RxUtils#applyMaybeIOScheduler()}).
+     * Maybe are attached with default schedulers ({@link #getSchedulerPolicy()}).
      * </p>
      *
      * @param tag         Maybe tag.
@@ -748,4 +1866,65 @@ public class RxPresenter<V> extends Presenter<V> {
             @Nullable final OnError<V> onError) {
         start(tag, maybe, onNext, onError, null);
     }
+
+    /**
+     * Latest item of a persisted task, serialized once the task has completed.
+     *
+     * @param <Result> Result type.
+     */
+    private static final class PersistedResult<Result> implements Consumer<Result>, Action {
+
+        private final ResultSerializer<Result> mSerializer;
+
+        private volatile Result mResult;
+
+        private volatile boolean mCompleted;
+
+        PersistedResult(ResultSerializer<Result> serializer) {
+            mSerializer = serializer;
+        }
+
+        /**
+         * Keeps the latest item.
+         */
+        @Override
+        public void accept(Result result) {
+            mResult = result;
+        }
+
+        /**
+         * Marks the task as completed.
+         */
+        @Override
+        public void run() {
+            mCompleted = true;
+        }
+
+        /**
+         * Serializes the result of the completed task.
+         *
+         * @return The bytes of the result, null if the task has not completed or completed without result.
+         * @throws Exception On error.
+         */
+        byte[] serialize() throws Exception {
+            Result result = mResult;
+            return mCompleted && result != null ? mSerializer.serialize(result) : null;
+        }
+    }
+
+    /**
+     * Factory of a cached task, called when the task is started.
+     *
+     * @param <V>      View type.
+     * @param <Result> Result type of the task.
+     */
+    private interface TaskFactory<V, Result> {
+
+        /**
+         * Applies the policies of the task, it is subscribed once started.
+         *
+         * @return The cached task.
+         */
+        CacheableStream<V, Result> create();
+    }
 }
@@ -0,0 +1,224 @@
+package com.mandria.android.mvp.rx;
+
+import android.support.annotation.NonNull;
+
+import java.util.concurrent.Executor;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.android.schedulers.AndroidSchedulers;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * <p>Defines the schedulers applied to the tasks started with default schedulers : the scheduler used to subscribe to the task and
+ * the scheduler used to observe its results.</p>
+ * <p>A policy can be set for all the presenters with {@link RxPresenter#setDefaultSchedulerPolicy(SchedulerPolicy)}, for one
+ * presenter with {@link RxPresenter#setSchedulerPolicy(SchedulerPolicy)} or for one task with the start methods taking a
+ * policy.</p>
+ */
+public final class SchedulerPolicy {
+
+    private static final SchedulerPolicy TRAMPOLINE = new SchedulerPolicy(Schedulers.trampoline(), Schedulers.trampoline());
+
+    private final Scheduler mSubscribeOn;
+
+    private final Scheduler mObserveOn;
+
+    /**
+     * Constructor.
+     *
+     * @param subscribeOn Scheduler used to subscribe to the tasks.
+     * @param observeOn   Scheduler used to observe the results of the tasks.
+     */
+    private SchedulerPolicy(Scheduler subscribeOn, Scheduler observeOn) {
+        mSubscribeOn = subscribeOn;
+        mObserveOn = observeOn;
+    }
+
+    /**
+     * Creates a policy with the given schedulers.
+     *
+     * @param subscribeOn Scheduler used to subscribe to the tasks.
+     * @param observeOn   Scheduler used to observe the results of the tasks.
+     * @return A new scheduler policy.
+     */
+    @NonNull
+    public static SchedulerPolicy create(@NonNull Scheduler subscribeOn, @NonNull Scheduler observeOn) {
+        return new SchedulerPolicy(subscribeOn, observeOn);
+    }
+
+    /**
+     * Tasks are subscribed on {@link Schedulers#io()} and observed on {@link AndroidSchedulers#mainThread()} (default policy).
+     *
+     * @return The io policy.
+     */
+    @NonNull
+    public static SchedulerPolicy io() {
+        return MainThreadHolder.IO;
+    }
+
+    /**
+     * Tasks are subscribed on {@link Schedulers#computation()} and observed on {@link AndroidSchedulers#mainThread()}, for CPU
+     * bound tasks.
+     *
+     * @return The computation policy.
+     */
+    @NonNull
+    public static SchedulerPolicy computation() {
+        return MainThreadHolder.COMPUTATION;
+    }
+
+    /**
+     * Tasks are subscribed on the given executor and observed on {@link AndroidSchedulers#mainThread()}, e.g. to bound the number
+     * of threads used for disk work.
+     *
+     * @param executor Executor to subscribe to the tasks on.
+     * @return An executor policy.
+     */
+    @NonNull
+    public static SchedulerPolicy from(@NonNull Executor executor) {
+        return new SchedulerPolicy(Schedulers.from(executor), AndroidSchedulers.mainThread());
+    }
+
+    /**
+     * Tasks are subscribed and observed on {@link Schedulers#trampoline()}, i.e. synchronously on the calling thread. Intended for
+     * JVM tests.
+     *
+     * @return The trampoline policy.
+     */
+    @NonNull
+    public static SchedulerPolicy trampoline() {
+        return TRAMPOLINE;
+    }
+
+    /**
+     * Gets a copy of this policy with the given subscribe scheduler.
+     *
+     * @param subscribeOn Scheduler used to subscribe to the tasks.
+     * @return A new scheduler policy.
+     */
+    @NonNull
+    public SchedulerPolicy withSubscribeOn(@NonNull Scheduler subscribeOn) {
+        return new SchedulerPolicy(subscribeOn, mObserveOn);
+    }
+
+    /**
+     * Gets a copy of this policy with the given observe scheduler.
+     *
+     * @param observeOn Scheduler used to observe the results of the tasks.
+     * @return A new scheduler policy.
+     */
+    @NonNull
+    public SchedulerPolicy withObserveOn(@NonNull Scheduler observeOn) {
+        return new SchedulerPolicy(mSubscribeOn, observeOn);
+    }
+
+    /**
+     * Gets a copy of this policy observing the results on the main thread with asynchronous messages, which are not delayed by
+     * the view traversals synchronization barriers (API 22+).
+     *
+     * @return A new scheduler policy.
+     */
+    @NonNull
+    public SchedulerPolicy withAsyncMainThread() {
+        return new SchedulerPolicy(mSubscribeOn, AsyncMainThreadHolder.SCHEDULER);
+    }
+
+    /**
+     * @return Scheduler used to subscribe to the tasks.
+     */
+    @NonNull
+    public Scheduler getSubscribeOn() {
+        return mSubscribeOn;
+    }
+
+    /**
+     * @return Scheduler used to observe the results of the tasks.
+     */
+    @NonNull
+    public Scheduler getObserveOn() {
+        return mObserveOn;
+    }
+
+    /**
+     * Applies the schedulers to an observable.
+     *
+     * @param observable Observable.
+     * @param <T>        Observable type.
+     * @return An observable of the same type with the applied schedulers.
+     */
+    <T> Observable<T> apply(Observable<T> observable) {
+        return observable.observeOn(mObserveOn).subscribeOn(mSubscribeOn);
+    }
+
+    /**
+     * Applies the schedulers to a flowable.
+     *
+     * @param flowable Flowable.
+     * @param <T>      Flowable type.
+     * @return A flowable of the same type with the applied schedulers.
+     */
+    <T> Flowable<T> apply(Flowable<T> flowable) {
+        return flowable.observeOn(mObserveOn).subscribeOn(mSubscribeOn);
+    }
+
+    /**
+     * Applies the schedulers to a single.
+     *
+     * @param single Single.
+     * @param <T>    Single type.
+     * @return A single of the same type with the applied schedulers.
+     */
+    <T> Single<T> apply(Single<T> single) {
+        return single.observeOn(mObserveOn).subscribeOn(mSubscribeOn);
+    }
+
+    /**
+     * Applies the schedulers to a completable.
+     *
+     * @param completable Completable.
+     * @return A completable with the applied schedulers.
+     */
+    Completable apply(Completable completable) {
+        return completable.observeOn(mObserveOn).subscribeOn(mSubscribeOn);
+    }
+
+    /**
+     * Applies the schedulers to a maybe.
+     *
+     * @param maybe Maybe.
+     * @param <T>   Maybe type.
+     * @return A maybe of the same type with the applied schedulers.
+     */
+    <T> Maybe<T> apply(Maybe<T> maybe) {
+        return maybe.observeOn(mObserveOn).subscribeOn(mSubscribeOn);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SchedulerPolicy subscribeOn : %s, observeOn : %s", mSubscribeOn, mObserveOn);
+    }
+
+    /**
+     * Lazy holder of the main thread policies, the android schedulers are only initialized when one of them is used.
+     */
+    private static final class MainThreadHolder {
+
+        private static final SchedulerPolicy IO = new SchedulerPolicy(Schedulers.io(), AndroidSchedulers.mainThread());
+
+        private static final SchedulerPolicy COMPUTATION = new SchedulerPolicy(Schedulers.computation(),
+                AndroidSchedulers.mainThread());
+    }
+
+    /**
+     * Lazy holder of the asynchronous main thread scheduler.
+     */
+    private static final class AsyncMainThreadHolder {
+
+        private static final Scheduler SCHEDULER = Schedulers.from(new AsyncMainThreadExecutor());
+    }
+}
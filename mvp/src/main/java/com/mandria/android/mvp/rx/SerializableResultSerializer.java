@@ -0,0 +1,42 @@
+package com.mandria.android.mvp.rx;
+
+import android.support.annotation.NonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * Result serializer based on java serialization, for results implementing {@link Serializable}.
+ *
+ * @param <Result> Result type.
+ */
+public final class SerializableResultSerializer<Result extends Serializable> implements ResultSerializer<Result> {
+
+    @NonNull
+    @Override
+    public byte[] serialize(@NonNull Result result) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+        try {
+            output.writeObject(result);
+        } finally {
+            output.close();
+        }
+        return bytes.toByteArray();
+    }
+
+    @NonNull
+    @Override
+    public Result deserialize(@NonNull byte[] data) throws Exception {
+        ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(data));
+        try {
+            // noinspection unchecked
+            return (Result) input.readObject();
+        } finally {
+            input.close();
+        }
+    }
+}
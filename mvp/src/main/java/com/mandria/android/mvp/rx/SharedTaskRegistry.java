@@ -0,0 +1,235 @@
+package com.mandria.android.mvp.rx;
+
+import com.mandria.android.mvp.MVPLogger;
+
+import android.support.annotation.NonNull;
+
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Single;
+import io.reactivex.functions.Action;
+
+/**
+ * <p>Application scoped registry of the in flight tasks, shared between presenters by a request key.</p>
+ * <p>A stream wrapped by one of the share methods is only subscribed if no task is in flight for its key, otherwise the
+ * subscriber is attached to the running task and receives its results. A key is released once its task terminates or once all
+ * its subscribers are disposed, the next subscription then starts the task again.</p>
+ * <p>The registry should live as long as the application, alongside the {@link com.mandria.android.mvp.PresenterCache}, e.g.
+ * <code>start(tag, registry.share("user/" + id, api.getUser(id)), onNext, onError)</code> from several presenters only
+ * requests the user once.</p>
+ */
+public final class SharedTaskRegistry {
+
+    private static final String TAG = "SharedTaskRegistry";
+
+    private final ConcurrentHashMap<String, Observable<?>> mObservables = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Flowable<?>> mFlowables = new ConcurrentHashMap<>();
+
+    /**
+     * Shares an observable, the items emitted before a subscriber joins the task are replayed to it.
+     *
+     * @param key        Request key, must always identify the same request and result type.
+     * @param observable Observable to share.
+     * @param <T>        Item type.
+     * @return An observable attaching to the in flight task of the key if any.
+     */
+    @NonNull
+    public <T> Observable<T> share(@NonNull String key, @NonNull Observable<T> observable) {
+        return share(key, observable, ReplayPolicy.unbounded());
+    }
+
+    /**
+     * Shares an observable.
+     *
+     * @param key          Request key, must always identify the same request and result type.
+     * @param observable   Observable to share.
+     * @param replayPolicy Policy defining the items replayed to the subscribers joining the task.
+     * @param <T>          Item type.
+     * @return An observable attaching to the in flight task of the key if any.
+     */
+    @NonNull
+    public <T> Observable<T> share(@NonNull final String key, @NonNull final Observable<T> observable,
+            @NonNull final ReplayPolicy replayPolicy) {
+        return Observable.defer(new Callable<ObservableSource<T>>() {
+            @Override
+            public ObservableSource<T> call() {
+                return join(key, observable, replayPolicy);
+            }
+        });
+    }
+
+    /**
+     * Gets the in flight task of a key, or registers a new task for the key.
+     *
+     * @param key          Request key.
+     * @param observable   Observable to share.
+     * @param replayPolicy Policy defining the items replayed to the subscribers joining the task.
+     * @param <T>          Item type.
+     * @return The in flight task of the key.
+     */
+    private <T> Observable<T> join(final String key, final Observable<T> observable, final ReplayPolicy replayPolicy) {
+        // noinspection unchecked
+        Observable<T> task = (Observable<T>) mObservables.get(key);
+        if (task != null) {
+            MVPLogger.dFormat(TAG, "Sharing in flight task : %s", key);
+            return task;
+        }
+
+        final AtomicReference<Observable<T>> created = new AtomicReference<>();
+        final AtomicBoolean connected = new AtomicBoolean();
+        created.set(replayPolicy.share(Observable.defer(new Callable<ObservableSource<T>>() {
+            @Override
+            public ObservableSource<T> call() {
+                if (connected.compareAndSet(false, true)) {
+                    return observable.doFinally(new Action() {
+                        @Override
+                        public void run() {
+                            mObservables.remove(key, created.get());
+                        }
+                    });
+                }
+                // The task ended before a subscriber which got it from the registry subscribed to it, so the replay connects
+                // again : the subscriber joins the registered task instead of running an unregistered one
+                mObservables.remove(key, created.get());
+                return join(key, observable, replayPolicy);
+            }
+        })));
+
+        // noinspection unchecked
+        task = (Observable<T>) mObservables.putIfAbsent(key, created.get());
+        return task != null ? task : created.get();
+    }
+
+    /**
+     * Shares a flowable, the items emitted before a subscriber joins the task are replayed to it.
+     *
+     * @param key      Request key, must always identify the same request and result type.
+     * @param flowable Flowable to share.
+     * @param <T>      Item type.
+     * @return A flowable attaching to the in flight task of the key if any.
+     */
+    @NonNull
+    public <T> Flowable<T> share(@NonNull String key, @NonNull Flowable<T> flowable) {
+        return share(key, flowable, ReplayPolicy.unbounded());
+    }
+
+    /**
+     * Shares a flowable.
+     *
+     * @param key          Request key, must always identify the same request and result type.
+     * @param flowable     Flowable to share.
+     * @param replayPolicy Policy defining the items replayed to the subscribers joining the task.
+     * @param <T>          Item type.
+     * @return A flowable attaching to the in flight task of the key if any.
+     */
+    @NonNull
+    public <T> Flowable<T> share(@NonNull final String key, @NonNull final Flowable<T> flowable,
+            @NonNull final ReplayPolicy replayPolicy) {
+        return Flowable.defer(new Callable<Publisher<T>>() {
+            @Override
+            public Publisher<T> call() {
+                return join(key, flowable, replayPolicy);
+            }
+        });
+    }
+
+    /**
+     * Gets the in flight task of a key, or registers a new task for the key.
+     *
+     * @param key          Request key.
+     * @param flowable     Flowable to share.
+     * @param replayPolicy Policy defining the items replayed to the subscribers joining the task.
+     * @param <T>          Item type.
+     * @return The in flight task of the key.
+     */
+    private <T> Flowable<T> join(final String key, final Flowable<T> flowable, final ReplayPolicy replayPolicy) {
+        // noinspection unchecked
+        Flowable<T> task = (Flowable<T>) mFlowables.get(key);
+        if (task != null) {
+            MVPLogger.dFormat(TAG, "Sharing in flight task : %s", key);
+            return task;
+        }
+
+        final AtomicReference<Flowable<T>> created = new AtomicReference<>();
+        final AtomicBoolean connected = new AtomicBoolean();
+        created.set(replayPolicy.share(Flowable.defer(new Callable<Publisher<T>>() {
+            @Override
+            public Publisher<T> call() {
+                if (connected.compareAndSet(false, true)) {
+                    return flowable.doFinally(new Action() {
+                        @Override
+                        public void run() {
+                            mFlowables.remove(key, created.get());
+                        }
+                    });
+                }
+                // Same as the observable tasks, the subscriber joins the registered task
+                mFlowables.remove(key, created.get());
+                return join(key, flowable, replayPolicy);
+            }
+        })));
+
+        // noinspection unchecked
+        task = (Flowable<T>) mFlowables.putIfAbsent(key, created.get());
+        return task != null ? task : created.get();
+    }
+
+    /**
+     * Shares a single.
+     *
+     * @param key    Request key, must always identify the same request and result type.
+     * @param single Single to share.
+     * @param <T>    Result type.
+     * @return A single attaching to the in flight task of the key if any.
+     */
+    @NonNull
+    public <T> Single<T> share(@NonNull String key, @NonNull Single<T> single) {
+        return share(key, single.toObservable()).singleOrError();
+    }
+
+    /**
+     * Shares a maybe.
+     *
+     * @param key   Request key, must always identify the same request and result type.
+     * @param maybe Maybe to share.
+     * @param <T>   Result type.
+     * @return A maybe attaching to the in flight task of the key if any.
+     */
+    @NonNull
+    public <T> Maybe<T> share(@NonNull String key, @NonNull Maybe<T> maybe) {
+        return share(key, maybe.toObservable()).singleElement();
+    }
+
+    /**
+     * Shares a completable.
+     *
+     * @param key         Request key, must always identify the same request.
+     * @param completable Completable to share.
+     * @return A completable attaching to the in flight task of the key if any.
+     */
+    @NonNull
+    public Completable share(@NonNull String key, @NonNull Completable completable) {
+        return share(key, completable.toObservable()).ignoreElements();
+    }
+
+    /**
+     * Gets if a task is in flight for the given key.
+     *
+     * @param key Request key.
+     * @return True if a task is in flight.
+     */
+    public boolean isInFlight(@NonNull String key) {
+        return mObservables.containsKey(key) || mFlowables.containsKey(key);
+    }
+}
@@ -0,0 +1,29 @@
+package com.mandria.android.mvp.rx;
+
+/**
+ * <p>Defines what a {@link RxPresenter} does when a task is started with the tag of a task which is still in its cache, i.e.
+ * running or waiting for its results to be delivered to the view.</p>
+ * <p>Whatever the mode, a task started with a tag which is not in the cache is started right away.</p>
+ */
+public enum StartMode {
+    /**
+     * The existing task is resumed, bound again to the view with its own callbacks, the new task is ignored (default behaviour).
+     * Use it to resume a task after a configuration change.
+     */
+    RESUME,
+    /**
+     * The existing task is cancelled, its upstream being disposed right away, and the new task is started (switch latest). The
+     * tasks enqueued with the same tag are cancelled too. Use it for search as you type.
+     */
+    REPLACE,
+    /**
+     * The new task is ignored while the existing task is running (drop new). If the existing task has terminated, its results not
+     * delivered yet are dropped and the new task is started.
+     */
+    IGNORE_IF_RUNNING,
+    /**
+     * The new task is started once the existing task and the tasks enqueued before it with the same tag are finished, i.e. their
+     * results are delivered or they are cancelled.
+     */
+    ENQUEUE
+}
@@ -0,0 +1,357 @@
+package com.mandria.android.mvp.rx;
+
+import org.reactivestreams.Publisher;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Completable;
+import io.reactivex.CompletableEmitter;
+import io.reactivex.CompletableOnSubscribe;
+import io.reactivex.CompletableSource;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.MaybeSource;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Single;
+import io.reactivex.SingleSource;
+import io.reactivex.functions.Action;
+import io.reactivex.functions.Cancellable;
+
+/**
+ * <p>Limits the number of tasks running at the same time, e.g. to bound the number of io threads and the contention on disk and
+ * sockets when a screen starts many tasks at once.</p>
+ * <p>A limiter can be shared by all the presenters with {@link RxPresenter#setDefaultTaskLimiter(TaskLimiter)} or set for one
+ * presenter with {@link RxPresenter#setTaskLimiter(TaskLimiter)}, the tasks of a presenter with its own limiter being bounded by
+ * both. The tasks started over the limit are queued: they are cached under their tag as any other task, so they can be resumed
+ * and cancelled, and they are subscribed once a running task terminates or is cancelled.</p>
+ * <p>The queued tasks of the presenters whose view is attached are subscribed first, then the ones of the presenters whose view is
+ * detached (back stack, background), each in start order. The priority of the queued tasks of a presenter is updated when its
+ * view is attached or detached, running tasks are not affected.</p>
+ * <p>This class is thread safe.</p>
+ */
+public final class TaskLimiter {
+
+    private final int mMaxRunning;
+
+    /**
+     * Tasks of the presenters with an attached view waiting for a slot, guarded by this.
+     */
+    private final ArrayDeque<Slot> mForegroundQueue = new ArrayDeque<>();
+
+    /**
+     * Tasks of the presenters with a detached view waiting for a slot, guarded by this.
+     */
+    private final ArrayDeque<Slot> mBackgroundQueue = new ArrayDeque<>();
+
+    /**
+     * Number of running tasks, guarded by this.
+     */
+    private int mRunning;
+
+    /**
+     * Work in progress counter of the drain loop.
+     */
+    private final AtomicInteger mWip = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param maxRunning Max number of tasks running at the same time.
+     */
+    public TaskLimiter(int maxRunning) {
+        if (maxRunning <= 0) {
+            throw new IllegalArgumentException("Max running tasks must be positive");
+        }
+        mMaxRunning = maxRunning;
+    }
+
+    /**
+     * Gets the number of running tasks.
+     *
+     * @return Running task count.
+     */
+    public synchronized int getRunningCount() {
+        return mRunning;
+    }
+
+    /**
+     * Gets the number of tasks waiting for a slot.
+     *
+     * @return Queued task count.
+     */
+    public synchronized int getQueuedCount() {
+        return mForegroundQueue.size() + mBackgroundQueue.size();
+    }
+
+    /**
+     * Limits an observable, it is subscribed once a slot is free.
+     *
+     * @param observable Observable.
+     * @param owner      Owner of the task.
+     * @param <T>        Observable type.
+     * @return The limited observable.
+     */
+    <T> Observable<T> apply(final Observable<T> observable, final Owner owner) {
+        return Observable.defer(new Callable<ObservableSource<T>>() {
+            @Override
+            public ObservableSource<T> call() {
+                Slot slot = new Slot(owner);
+                return slot.acquire().andThen(observable).doFinally(slot);
+            }
+        });
+    }
+
+    /**
+     * Limits a flowable, it is subscribed once a slot is free.
+     *
+     * @param flowable Flowable.
+     * @param owner    Owner of the task.
+     * @param <T>      Flowable type.
+     * @return The limited flowable.
+     */
+    <T> Flowable<T> apply(final Flowable<T> flowable, final Owner owner) {
+        return Flowable.defer(new Callable<Publisher<T>>() {
+            @Override
+            public Publisher<T> call() {
+                Slot slot = new Slot(owner);
+                return slot.acquire().andThen(flowable).doFinally(slot);
+            }
+        });
+    }
+
+    /**
+     * Limits a single, it is subscribed once a slot is free.
+     *
+     * @param single Single.
+     * @param owner  Owner of the task.
+     * @param <T>    Single type.
+     * @return The limited single.
+     */
+    <T> Single<T> apply(final Single<T> single, final Owner owner) {
+        return Single.defer(new Callable<SingleSource<T>>() {
+            @Override
+            public SingleSource<T> call() {
+                Slot slot = new Slot(owner);
+                return slot.acquire().andThen(single).doFinally(slot);
+            }
+        });
+    }
+
+    /**
+     * Limits a completable, it is subscribed once a slot is free.
+     *
+     * @param completable Completable.
+     * @param owner       Owner of the task.
+     * @return The limited completable.
+     */
+    Completable apply(final Completable completable, final Owner owner) {
+        return Completable.defer(new Callable<CompletableSource>() {
+            @Override
+            public CompletableSource call() {
+                Slot slot = new Slot(owner);
+                return slot.acquire().andThen(completable).doFinally(slot);
+            }
+        });
+    }
+
+    /**
+     * Limits a maybe, it is subscribed once a slot is free.
+     *
+     * @param maybe Maybe.
+     * @param owner Owner of the task.
+     * @param <T>   Maybe type.
+     * @return The limited maybe.
+     */
+    <T> Maybe<T> apply(final Maybe<T> maybe, final Owner owner) {
+        return Maybe.defer(new Callable<MaybeSource<T>>() {
+            @Override
+            public MaybeSource<T> call() {
+                Slot slot = new Slot(owner);
+                return slot.acquire().andThen(maybe).doFinally(slot);
+            }
+        });
+    }
+
+    /**
+     * Queues a task until a slot is free.
+     *
+     * @param slot Slot of the task.
+     */
+    private void request(Slot slot) {
+        synchronized (this) {
+            if (slot.mOwner.hasView()) {
+                mForegroundQueue.add(slot);
+            } else {
+                mBackgroundQueue.add(slot);
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Moves the queued tasks of an owner to the queue matching its view state, called when its view is attached or detached.
+     *
+     * @param owner Owner of the tasks.
+     */
+    void updatePriority(Owner owner) {
+        boolean hasView = owner.hasView();
+        synchronized (this) {
+            ArrayDeque<Slot> from = hasView ? mBackgroundQueue : mForegroundQueue;
+            ArrayDeque<Slot> to = hasView ? mForegroundQueue : mBackgroundQueue;
+            Iterator<Slot> iterator = from.iterator();
+            while (iterator.hasNext()) {
+                Slot slot = iterator.next();
+                if (slot.mOwner == owner) {
+                    iterator.remove();
+                    to.add(slot);
+                }
+            }
+        }
+    }
+
+    /**
+     * Frees the slot of a terminated or cancelled task.
+     */
+    private void release() {
+        synchronized (this) {
+            mRunning--;
+        }
+        drain();
+    }
+
+    /**
+     * Gives the free slots to the queued tasks. Tasks terminating synchronously when subscribed release their slot to this loop
+     * instead of recursing.
+     */
+    private void drain() {
+        if (mWip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            while (true) {
+                Slot next;
+                synchronized (this) {
+                    if (mRunning >= mMaxRunning) {
+                        break;
+                    }
+                    next = mForegroundQueue.poll();
+                    if (next == null) {
+                        next = mBackgroundQueue.poll();
+                    }
+                    if (next == null) {
+                        break;
+                    }
+                    mRunning++;
+                }
+                next.grant();
+            }
+            missed = mWip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Removes a cancelled task from the queue.
+     *
+     * @param slot Slot of the task.
+     * @return True if the task was queued.
+     */
+    private synchronized boolean dequeue(Slot slot) {
+        return mForegroundQueue.remove(slot) || mBackgroundQueue.remove(slot);
+    }
+
+    /**
+     * Owner of the tasks, giving their priority.
+     */
+    interface Owner {
+
+        /**
+         * Gets if the view of the owner is attached, can be called from any thread.
+         *
+         * @return True if the view is attached.
+         */
+        boolean hasView();
+    }
+
+    /**
+     * Slot of a task: waiting, granted then released once the task terminates or is cancelled.
+     */
+    private final class Slot implements CompletableOnSubscribe, Cancellable, Action {
+
+        private static final int WAITING = 0;
+
+        private static final int GRANTED = 1;
+
+        private static final int RELEASED = 2;
+
+        private final AtomicInteger mState = new AtomicInteger(WAITING);
+
+        private final Owner mOwner;
+
+        private volatile CompletableEmitter mEmitter;
+
+        /**
+         * Constructor.
+         *
+         * @param owner Owner of the task.
+         */
+        Slot(Owner owner) {
+            mOwner = owner;
+        }
+
+        /**
+         * Gets a completable completing once the task can be subscribed.
+         *
+         * @return The slot acquisition.
+         */
+        Completable acquire() {
+            return Completable.create(this);
+        }
+
+        @Override
+        public void subscribe(CompletableEmitter emitter) {
+            mEmitter = emitter;
+            emitter.setCancellable(this);
+            request(this);
+        }
+
+        /**
+         * Grants the slot, the task is subscribed.
+         */
+        void grant() {
+            if (mState.compareAndSet(WAITING, GRANTED)) {
+                mEmitter.onComplete();
+            } else {
+                // Cancelled while being granted, the slot goes to the next task
+                release();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            // Disposed while waiting, a granted slot is released by run() once the task terminates
+            if (mState.compareAndSet(WAITING, RELEASED)) {
+                dequeue(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (mState.compareAndSet(GRANTED, RELEASED)) {
+                release();
+            } else {
+                cancel();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TaskLimiter max running : %s", mMaxRunning);
+    }
+}
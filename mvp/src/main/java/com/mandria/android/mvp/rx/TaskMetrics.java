@@ -0,0 +1,19 @@
+package com.mandria.android.mvp.rx;
+
+import android.support.annotation.NonNull;
+
+/**
+ * <p>This interface receives the stats of the tasks started by the presenters, e.g. to find slow or wasteful tasks.</p>
+ * <p>Tasks are only instrumented while a sink is set on the presenter or as default, see
+ * {@link RxPresenter#setTaskMetrics(TaskMetrics)}.</p>
+ */
+public interface TaskMetrics {
+
+    /**
+     * Called once per task when it is removed from its presenter: delivered, cancelled or dropped. It can be called from any
+     * thread.
+     *
+     * @param stats Stats of the task.
+     */
+    void onTaskFinished(@NonNull TaskStats stats);
+}
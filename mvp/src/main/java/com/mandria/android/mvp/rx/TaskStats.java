@@ -0,0 +1,346 @@
+package com.mandria.android.mvp.rx;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.Single;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.BiConsumer;
+import io.reactivex.functions.Consumer;
+import io.reactivex.subjects.BehaviorSubject;
+
+/**
+ * <p>Counters of a task started by a {@link RxPresenter}, published to its {@link TaskMetrics} once the task is finished.</p>
+ * <p>Counters are plain volatile fields, each one being written by a single thread: items are counted by the thread emitting them
+ * and resumes by the main thread.</p>
+ */
+public final class TaskStats {
+
+    /**
+     * How a task is finished.
+     */
+    public enum Outcome {
+        /**
+         * The task completed and its terminal event has been delivered to the view.
+         */
+        COMPLETED,
+        /**
+         * The task failed and its error has been delivered to the view.
+         */
+        FAILED,
+        /**
+         * The task has been cancelled by its tag.
+         */
+        CANCELLED,
+        /**
+         * The task has been cancelled by {@link RxPresenter#cancelAll()}, e.g. when the presenter is destroyed.
+         */
+        CANCELLED_BY_CANCEL_ALL,
+        /**
+         * The task terminated but its undelivered results have been dropped on memory pressure.
+         */
+        DROPPED
+    }
+
+    private final Class<? extends RxPresenter> mPresenterClass;
+
+    private final String mTag;
+
+    private final TaskMetrics mMetrics;
+
+    private final BehaviorSubject<? extends RxView<?>> mView;
+
+    private final long mStartNanos = System.nanoTime();
+
+    private final AtomicBoolean mFinished = new AtomicBoolean();
+
+    private volatile long mFirstItemNanos;
+
+    private volatile long mEndNanos;
+
+    private volatile long mItemCount;
+
+    private volatile long mBufferedCount;
+
+    private volatile int mBindCount;
+
+    private volatile boolean mFailed;
+
+    private volatile Outcome mOutcome;
+
+    /**
+     * Constructor.
+     *
+     * @param presenterClass Class of the presenter running the task.
+     * @param tag            Task tag.
+     * @param metrics        Metrics sink.
+     * @param view           Subject of the presenter view, to count the items emitted while it is detached.
+     */
+    TaskStats(Class<? extends RxPresenter> presenterClass, String tag, TaskMetrics metrics,
+            BehaviorSubject<? extends RxView<?>> view) {
+        mPresenterClass = presenterClass;
+        mTag = tag;
+        mMetrics = metrics;
+        mView = view;
+    }
+
+    /**
+     * Counts the items of an observable.
+     *
+     * @param observable Observable.
+     * @param <T>        Observable type.
+     * @return An observable counting its items.
+     */
+    <T> Observable<T> instrument(Observable<T> observable) {
+        return observable.doOnEach(new Observer<T>() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                // Started with the task
+            }
+
+            @Override
+            public void onNext(T item) {
+                countItem();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                terminate(true);
+            }
+
+            @Override
+            public void onComplete() {
+                terminate(false);
+            }
+        });
+    }
+
+    /**
+     * Counts the items of a flowable.
+     *
+     * @param flowable Flowable.
+     * @param <T>      Flowable type.
+     * @return A flowable counting its items.
+     */
+    <T> Flowable<T> instrument(Flowable<T> flowable) {
+        return flowable.doOnEach(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                // Started with the task
+            }
+
+            @Override
+            public void onNext(T item) {
+                countItem();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                terminate(true);
+            }
+
+            @Override
+            public void onComplete() {
+                terminate(false);
+            }
+        });
+    }
+
+    /**
+     * Counts the item of a single.
+     *
+     * @param single Single.
+     * @param <T>    Single type.
+     * @return A single counting its item.
+     */
+    <T> Single<T> instrument(Single<T> single) {
+        return single.doOnEvent(this.<T>onEvent());
+    }
+
+    /**
+     * Times a completable.
+     *
+     * @param completable Completable.
+     * @return A completable timed.
+     */
+    Completable instrument(Completable completable) {
+        return completable.doOnEvent(new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable throwable) {
+                terminate(throwable != null);
+            }
+        });
+    }
+
+    /**
+     * Counts the item of a maybe.
+     *
+     * @param maybe Maybe.
+     * @param <T>   Maybe type.
+     * @return A maybe counting its item.
+     */
+    <T> Maybe<T> instrument(Maybe<T> maybe) {
+        return maybe.doOnEvent(this.<T>onEvent());
+    }
+
+    /**
+     * Gets a callback counting the item of a single or a maybe and ending the task.
+     *
+     * @param <T> Item type.
+     * @return The callback.
+     */
+    private <T> BiConsumer<T, Throwable> onEvent() {
+        return new BiConsumer<T, Throwable>() {
+            @Override
+            public void accept(T item, Throwable throwable) {
+                if (item != null) {
+                    countItem();
+                }
+                terminate(throwable != null);
+            }
+        };
+    }
+
+    /**
+     * Counts an item emitted by the task.
+     */
+    private void countItem() {
+        if (mItemCount == 0) {
+            mFirstItemNanos = System.nanoTime();
+        }
+        // noinspection NonAtomicOperationOnVolatileField : items are emitted sequentially
+        mItemCount++;
+        RxView<?> rxView = mView.getValue();
+        if (rxView == null || rxView.view == null) {
+            // noinspection NonAtomicOperationOnVolatileField
+            mBufferedCount++;
+        }
+    }
+
+    /**
+     * Ends the task.
+     *
+     * @param failed True if the task failed.
+     */
+    private void terminate(boolean failed) {
+        mFailed = failed;
+        mEndNanos = System.nanoTime();
+    }
+
+    /**
+     * Counts a binding of the task to the view, called on the main thread.
+     */
+    void onBound() {
+        // noinspection NonAtomicOperationOnVolatileField
+        mBindCount++;
+    }
+
+    /**
+     * Finishes the task and publishes its stats, only the first call is taken into account.
+     *
+     * @param outcome How the task is finished, {@link Outcome#COMPLETED} also standing for {@link Outcome#FAILED}.
+     */
+    void finish(@NonNull Outcome outcome) {
+        if (!mFinished.compareAndSet(false, true)) {
+            return;
+        }
+        if (mEndNanos == 0) {
+            mEndNanos = System.nanoTime();
+        }
+        mOutcome = outcome == Outcome.COMPLETED && mFailed ? Outcome.FAILED : outcome;
+        mMetrics.onTaskFinished(this);
+    }
+
+    /**
+     * Gets the class of the presenter which ran the task.
+     *
+     * @return Presenter class.
+     */
+    @NonNull
+    public Class<? extends RxPresenter> getPresenterClass() {
+        return mPresenterClass;
+    }
+
+    /**
+     * Gets the task tag.
+     *
+     * @return Tag.
+     */
+    @NonNull
+    public String getTag() {
+        return mTag;
+    }
+
+    /**
+     * Gets how the task is finished.
+     *
+     * @return Outcome, null while the task is running.
+     */
+    @Nullable
+    public Outcome getOutcome() {
+        return mOutcome;
+    }
+
+    /**
+     * Gets the time between the start of the task and its first item.
+     *
+     * @return Time in nanoseconds, -1 if the task did not emit any item.
+     */
+    public long getTimeToFirstItemNanos() {
+        return mItemCount == 0 ? -1 : mFirstItemNanos - mStartNanos;
+    }
+
+    /**
+     * Gets the time between the start of the task and its termination or cancellation.
+     *
+     * @return Time in nanoseconds, until now while the task is running.
+     */
+    public long getDurationNanos() {
+        long end = mEndNanos;
+        return (end == 0 ? System.nanoTime() : end) - mStartNanos;
+    }
+
+    /**
+     * Gets the number of items emitted by the task.
+     *
+     * @return Item count.
+     */
+    public long getItemCount() {
+        return mItemCount;
+    }
+
+    /**
+     * Gets the number of items emitted while the view was detached, buffered until the view is attached again.
+     *
+     * @return Buffered item count.
+     */
+    public long getBufferedCount() {
+        return mBufferedCount;
+    }
+
+    /**
+     * Gets the number of times the task has been resumed, i.e. bound again to a view after its first binding.
+     *
+     * @return Resume count.
+     */
+    public int getResumeCount() {
+        return Math.max(mBindCount - 1, 0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TaskStats %s.%s : %s, first item %sus, duration %sus, %s items, %s buffered, %s resumes",
+                mPresenterClass.getSimpleName(), mTag, mOutcome, getTimeToFirstItemNanos() / 1000, getDurationNanos() / 1000,
+                mItemCount, mBufferedCount, getResumeCount());
+    }
+}
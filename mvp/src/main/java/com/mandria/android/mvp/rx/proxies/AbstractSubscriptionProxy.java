@@ -1,15 +1,15 @@
 package com.mandria.android.mvp.rx.proxies;
 
+import com.mandria.android.mvp.rx.BoundConsumer;
 import com.mandria.android.mvp.rx.BoundData;
 import com.mandria.android.mvp.rx.RxView;
 
 import io.reactivex.Notification;
+import io.reactivex.Observable;
 import io.reactivex.annotations.NonNull;
 import io.reactivex.disposables.CompositeDisposable;
 import io.reactivex.disposables.Disposable;
-import io.reactivex.functions.BiFunction;
 import io.reactivex.functions.Consumer;
-import io.reactivex.functions.Predicate;
 
 /**
  * An abstract class to manipulate subscription proxies.
@@ -17,55 +17,33 @@ import io.reactivex.functions.Predicate;
 public abstract class AbstractSubscriptionProxy<View, Result> {
 
     /**
-     * Combine latest bi-function to apply.
+     * Observable that emits the view.
      */
-    final BiFunction<RxView<View>, Notification<Result>, BoundData<View, Result>> mCombineFunction;
+    final Observable<RxView<View>> mView;
 
     /**
-     * Predicate to filter item emitted by the combineLatest bi-function.
+     * Composite disposable to retain replaySubject subscription and view binding subscription.
      */
-    final Predicate<BoundData<View, Result>> mFilterPredicate;
+    final CompositeDisposable mCompositeDisposable;
 
     /**
-     * Composite disposable to retain replaySubject subscription and combination subscription.
+     * Disposable acquired from the view binding subscription.
      */
-    final CompositeDisposable mCompositeDisposable;
+    Disposable mDisposable;
 
     /**
-     * Disposable acquired from the combination subscription.
+     * True once the original stream has terminated.
      */
-    Disposable mDisposable;
+    volatile boolean mTerminated;
 
     /**
      * Constructor.
+     *
+     * @param view Observable that emits the view.
      */
-    AbstractSubscriptionProxy() {
+    AbstractSubscriptionProxy(Observable<RxView<View>> view) {
+        mView = view;
         mCompositeDisposable = new CompositeDisposable();
-
-        mCombineFunction = new BiFunction<RxView<View>, Notification<Result>, BoundData<View, Result>>() {
-            @Override
-            public BoundData<View, Result> apply(@NonNull RxView<View> rxView, @NonNull Notification<Result> replayNotification)
-                    throws Exception {
-                // In case view is emitted as null
-                // we dispose from the replay subject
-                // to avoid passing null view (view is detached)
-                if (rxView.view == null) {
-                    if (mDisposable != null) {
-                        dispose();
-                    }
-                }
-
-                return new BoundData<>(rxView.view, replayNotification);
-            }
-        };
-
-        // Predicate to filter on view not null
-        mFilterPredicate = new Predicate<BoundData<View, Result>>() {
-            @Override
-            public boolean test(@NonNull BoundData<View, Result> viewResultBoundData) throws Exception {
-                return viewResultBoundData.getView() != null;
-            }
-        };
     }
 
     /**
@@ -75,6 +53,15 @@ public abstract class AbstractSubscriptionProxy<View, Result> {
         mCompositeDisposable.dispose();
     }
 
+    /**
+     * Gets if the original stream has terminated, i.e. only the replay subject remains.
+     *
+     * @return True if the original stream has completed or failed.
+     */
+    public boolean isTerminated() {
+        return mTerminated;
+    }
+
     /**
      * Gets if the disposable attached to the replaySubject is disposed.
      *
@@ -89,11 +76,84 @@ public abstract class AbstractSubscriptionProxy<View, Result> {
      *
      * @param consumer Consumer.
      * @return A disposable to dispose from the stream.
+     * @deprecated Use {@link #subscribe(BoundConsumer)} which does not allocate a {@link BoundData} per emitted item.
      */
-    public abstract Disposable subscribe(Consumer<BoundData<View, Result>> consumer);
+    @Deprecated
+    public Disposable subscribe(final Consumer<BoundData<View, Result>> consumer) {
+        return subscribe(new BoundConsumer<View, Result>() {
+            @Override
+            public void onNext(@NonNull View view, Result result) throws Exception {
+                consumer.accept(new BoundData<>(view, Notification.createOnNext(result)));
+            }
+
+            @Override
+            public void onError(@NonNull View view, Throwable throwable) throws Exception {
+                consumer.accept(new BoundData<>(view, Notification.<Result>createOnError(throwable)));
+            }
+
+            @Override
+            public void onComplete(@NonNull View view) throws Exception {
+                consumer.accept(new BoundData<>(view, Notification.<Result>createOnComplete()));
+            }
+        });
+    }
+
+    /**
+     * Subscribes to the stream using the given consumer.
+     * Events are only dispatched while a view is attached.
+     *
+     * @param consumer Consumer.
+     * @return A disposable to dispose from the stream.
+     */
+    public Disposable subscribe(BoundConsumer<View, Result> consumer) {
+        dispose();
+        AbstractViewBinder<View, Result> binder = createBinder(consumer);
+        mDisposable = binder;
+        mCompositeDisposable.add(binder);
+        binder.bind(mView);
+        return binder;
+    }
+
+    /**
+     * <p>Subscribes to the stream using the given consumer and the given attached view.</p>
+     * <p>The view is not observed, the caller should {@link #dispose()} from the stream when the view is detached.</p>
+     *
+     * @param consumer Consumer.
+     * @param view     The attached view.
+     * @return A disposable to dispose from the stream.
+     */
+    public Disposable subscribe(BoundConsumer<View, Result> consumer, @NonNull View view) {
+        dispose();
+        AbstractViewBinder<View, Result> binder = createBinder(consumer);
+        mDisposable = binder;
+        mCompositeDisposable.add(binder);
+        binder.bind(view);
+        return binder;
+    }
+
+    /**
+     * Gets if the stream is bound to a consumer, i.e. subscribed and not disposed.
+     *
+     * @return True if bound.
+     */
+    public boolean isBound() {
+        return mDisposable != null && !mDisposable.isDisposed();
+    }
+
+    /**
+     * Creates the binder which will dispatch the replayed events to the consumer.
+     *
+     * @param consumer Consumer.
+     * @return A new binder.
+     */
+    abstract AbstractViewBinder<View, Result> createBinder(BoundConsumer<View, Result> consumer);
 
     /**
      * Disposes from the stream.
      */
-    public abstract void dispose();
+    public void dispose() {
+        if (mDisposable != null) {
+            mCompositeDisposable.remove(mDisposable);
+        }
+    }
 }
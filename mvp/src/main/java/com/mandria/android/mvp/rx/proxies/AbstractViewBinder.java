@@ -0,0 +1,168 @@
+package com.mandria.android.mvp.rx.proxies;
+
+import com.mandria.android.mvp.rx.BoundConsumer;
+import com.mandria.android.mvp.rx.RxView;
+
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.annotations.NonNull;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.CompositeException;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * <p>Binds the events of a replayed stream to the current view and dispatches them to a {@link BoundConsumer}.</p>
+ * <p>The replayed stream is only subscribed if a view is available. As soon as the view is emitted as null (view is detached) or the
+ * view stream terminates, the binder disposes itself so that the next binding replays the stream. No wrapper object is allocated per
+ * emitted item.</p>
+ */
+abstract class AbstractViewBinder<View, Result> implements Disposable {
+
+    /**
+     * Composite disposable retaining the view subscription and the replayed stream subscription.
+     */
+    final CompositeDisposable mDisposables = new CompositeDisposable();
+
+    private final BoundConsumer<View, Result> mConsumer;
+
+    /**
+     * The current view, null if no view is available.
+     */
+    private volatile View mView;
+
+    /**
+     * Constructor.
+     *
+     * @param consumer Consumer to dispatch the events to.
+     */
+    AbstractViewBinder(BoundConsumer<View, Result> consumer) {
+        mConsumer = consumer;
+    }
+
+    /**
+     * Subscribes to the view and then to the replayed stream if a view is available.
+     *
+     * @param view Observable that emits the view.
+     */
+    final void bind(Observable<RxView<View>> view) {
+        view.subscribe(new ViewObserver());
+
+        if (mView != null && !isDisposed()) {
+            subscribeActual();
+        }
+    }
+
+    /**
+     * Subscribes to the replayed stream with the given view, without observing the view. The binder should be disposed when the
+     * view is detached.
+     *
+     * @param view The attached view.
+     */
+    final void bind(@NonNull View view) {
+        mView = view;
+        subscribeActual();
+    }
+
+    /**
+     * Subscribes to the replayed stream.
+     */
+    abstract void subscribeActual();
+
+    /**
+     * Dispatches an item to the consumer if the view is available.
+     *
+     * @param result Item.
+     */
+    final void next(Result result) {
+        View view = mView;
+        if (view != null && !isDisposed()) {
+            try {
+                mConsumer.onNext(view, result);
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                dispose();
+                RxJavaPlugins.onError(e);
+            }
+        }
+    }
+
+    /**
+     * Dispatches an error to the consumer if the view is available.
+     *
+     * @param throwable Error.
+     */
+    final void error(Throwable throwable) {
+        View view = mView;
+        if (view != null && !isDisposed()) {
+            dispose();
+            try {
+                mConsumer.onError(view, throwable);
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                RxJavaPlugins.onError(new CompositeException(throwable, e));
+            }
+        }
+    }
+
+    /**
+     * Dispatches the completion to the consumer if the view is available.
+     */
+    final void complete() {
+        View view = mView;
+        if (view != null && !isDisposed()) {
+            dispose();
+            try {
+                mConsumer.onComplete(view);
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                RxJavaPlugins.onError(e);
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        mView = null;
+        mDisposables.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return mDisposables.isDisposed();
+    }
+
+    /**
+     * Observer keeping track of the current view.
+     */
+    private final class ViewObserver implements Observer<RxView<View>> {
+
+        @Override
+        public void onSubscribe(@NonNull Disposable d) {
+            mDisposables.add(d);
+        }
+
+        @Override
+        public void onNext(@NonNull RxView<View> rxView) {
+            // In case view is emitted as null
+            // we dispose from the replayed stream
+            // to avoid passing null view (view is detached)
+            if (rxView.view == null) {
+                dispose();
+            } else {
+                mView = rxView.view;
+            }
+        }
+
+        @Override
+        public void onError(@NonNull Throwable e) {
+            dispose();
+        }
+
+        @Override
+        public void onComplete() {
+            dispose();
+        }
+    }
+}
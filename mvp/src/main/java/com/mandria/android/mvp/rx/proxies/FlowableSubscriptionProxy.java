@@ -1,26 +1,32 @@
 package com.mandria.android.mvp.rx.proxies;
 
-import com.mandria.android.mvp.rx.BoundData;
+import com.mandria.android.mvp.rx.BoundConsumer;
+import com.mandria.android.mvp.rx.DetachPolicy;
+import com.mandria.android.mvp.rx.ReplayPolicy;
 import com.mandria.android.mvp.rx.RxView;
 
-import io.reactivex.BackpressureStrategy;
+import java.util.concurrent.atomic.AtomicLong;
+
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.annotations.NonNull;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.functions.Consumer;
+import io.reactivex.processors.FlowableProcessor;
 import io.reactivex.processors.ReplayProcessor;
 import io.reactivex.subscribers.DisposableSubscriber;
 
 /**
  * Proxy for the original observable subscription.
- * A {@link ReplayProcessor} subscribes to the flowable and is used to attach the {@link Consumer}.
+ * A {@link ReplayProcessor} subscribes to the flowable and is used to attach the {@link BoundConsumer}.
+ * The items kept by this processor are defined by the {@link ReplayPolicy} given at construction.
+ * The flowable is requested as defined by the {@link DetachPolicy} given at construction.
  */
 public class FlowableSubscriptionProxy<View, Result> extends AbstractSubscriptionProxy<View, Result> {
 
-    private final DisposableSubscriber<Result> mReplayDisposable;
+    private final ReplaySubscriber mReplayDisposable;
 
-    private Flowable<BoundData<View, Result>> mFlowable;
+    private final FlowableProcessor<Result> mReplaySubject;
 
     /**
      * Constructor.
@@ -29,58 +35,62 @@ public class FlowableSubscriptionProxy<View, Result> extends AbstractSubscriptio
      * @param view        Observable that emits the view.
      */
     public FlowableSubscriptionProxy(Flowable<Result> flowable, Observable<RxView<View>> view) {
-        super();
-
-        // Creates a replay subject which will subscribe to the flowable.
-        final ReplayProcessor<Result> replaySubject = ReplayProcessor.create();
-
-        mReplayDisposable = new DisposableSubscriber<Result>() {
-            @Override
-            public void onNext(@NonNull Result result) {
-                replaySubject.onNext(result);
-            }
+        this(flowable, view, ReplayPolicy.unbounded());
+    }
 
-            @Override
-            public void onError(@NonNull Throwable e) {
-                replaySubject.onError(e);
-            }
+    /**
+     * Constructor.
+     *
+     * @param flowable     Original flowable.
+     * @param view         Observable that emits the view.
+     * @param replayPolicy Policy defining the items replayed when the view is attached again.
+     */
+    public FlowableSubscriptionProxy(Flowable<Result> flowable, Observable<RxView<View>> view, ReplayPolicy replayPolicy) {
+        this(flowable, view, replayPolicy, DetachPolicy.keepRequesting());
+    }
 
-            @Override
-            public void onComplete() {
-                replaySubject.onComplete();
-            }
-        };
-        flowable.subscribe(mReplayDisposable);
+    /**
+     * Constructor.
+     *
+     * @param flowable     Original flowable.
+     * @param view         Observable that emits the view.
+     * @param replayPolicy Policy defining the items replayed when the view is attached again.
+     * @param detachPolicy Policy defining how the flowable is requested while the view is detached.
+     */
+    public FlowableSubscriptionProxy(Flowable<Result> flowable, Observable<RxView<View>> view, ReplayPolicy replayPolicy,
+            DetachPolicy detachPolicy) {
+        super(view);
 
-        // Keeps as the flowable reference the combination of the view behaviour subject and the replay processor
-        // so that the original flowable can continue its work and we can dispose from the replay process
-        // View is converted to flowable with BackpressureStrategy.LATEST, since only the latest emission interests us
-        mFlowable = Flowable
-                .combineLatest(
-                        view.toFlowable(BackpressureStrategy.LATEST),
-                        replaySubject.materialize(),
-                        mCombineFunction
-                )
-                .filter(mFilterPredicate);
+        // Creates a replay subject which will subscribe to the flowable.
+        mReplaySubject = replayPolicy.createProcessor();
+        mReplayDisposable = new ReplaySubscriber(detachPolicy.getBatchSize());
 
         // Adds the replaySubject subscription to the CompositeSubscription
         // to be able to dispose the replaySubject from the original flowable
         mCompositeDisposable.add(mReplayDisposable);
-    }
 
-    @Override
-    public Disposable subscribe(Consumer<BoundData<View, Result>> consumer) {
-        dispose();
-        mDisposable = mFlowable.subscribe(consumer);
-        mCompositeDisposable.add(mDisposable);
-        return mDisposable;
+        flowable.subscribe(mReplayDisposable);
+
+        if (detachPolicy.isPausingUpstream() && !mTerminated) {
+            // The flowable is requested while a view is attached only
+            Disposable viewDisposable = view.subscribe(new Consumer<RxView<View>>() {
+                @Override
+                public void accept(RxView<View> rxView) {
+                    if (rxView.view != null) {
+                        mReplayDisposable.resume();
+                    } else {
+                        mReplayDisposable.pause();
+                    }
+                }
+            });
+            mReplayDisposable.setViewDisposable(viewDisposable);
+            mCompositeDisposable.add(viewDisposable);
+        }
     }
 
     @Override
-    public void dispose() {
-        if (mDisposable != null) {
-            mCompositeDisposable.remove(mDisposable);
-        }
+    AbstractViewBinder<View, Result> createBinder(BoundConsumer<View, Result> consumer) {
+        return new FlowableViewBinder<>(mReplaySubject, consumer);
     }
 
     /**
@@ -91,4 +101,109 @@ public class FlowableSubscriptionProxy<View, Result> extends AbstractSubscriptio
     boolean isCanceled() {
         return isDisposed() && mReplayDisposable.isDisposed();
     }
+
+    /**
+     * Subscriber of the original flowable forwarding its events to the replay subject, requesting it without bound or by batches
+     * while a view is attached.
+     */
+    private final class ReplaySubscriber extends DisposableSubscriber<Result> {
+
+        private final long mBatchSize;
+
+        /**
+         * Number of items requested and not yet emitted, when pausing the upstream.
+         */
+        private final AtomicLong mOutstanding = new AtomicLong();
+
+        /**
+         * True while the upstream should not be requested, until a view is attached.
+         */
+        private volatile boolean mPaused = true;
+
+        private volatile Disposable mViewDisposable;
+
+        /**
+         * Constructor.
+         *
+         * @param batchSize Number of items requested at once, {@link Long#MAX_VALUE} to request without bound.
+         */
+        ReplaySubscriber(long batchSize) {
+            mBatchSize = batchSize;
+        }
+
+        @Override
+        protected void onStart() {
+            if (mBatchSize == Long.MAX_VALUE) {
+                request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(@NonNull Result result) {
+            mReplaySubject.onNext(result);
+            if (mBatchSize != Long.MAX_VALUE && mOutstanding.decrementAndGet() == 0 && !mPaused) {
+                requestBatch();
+            }
+        }
+
+        @Override
+        public void onError(@NonNull Throwable e) {
+            terminate();
+            mReplaySubject.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            terminate();
+            mReplaySubject.onComplete();
+        }
+
+        /**
+         * Sets the disposable observing the view, disposed once the flowable terminates.
+         *
+         * @param viewDisposable View disposable.
+         */
+        void setViewDisposable(Disposable viewDisposable) {
+            mViewDisposable = viewDisposable;
+            if (mTerminated) {
+                viewDisposable.dispose();
+            }
+        }
+
+        /**
+         * Requests the upstream again, called when a view is attached.
+         */
+        void resume() {
+            mPaused = false;
+            requestBatch();
+        }
+
+        /**
+         * Stops requesting the upstream once the current batch is emitted, called when the view is detached.
+         */
+        void pause() {
+            mPaused = true;
+        }
+
+        /**
+         * Requests a batch if the previous one is fully emitted.
+         */
+        private void requestBatch() {
+            // Only one of the emitting thread and the main thread requests the next batch
+            if (mOutstanding.compareAndSet(0, mBatchSize)) {
+                request(mBatchSize);
+            }
+        }
+
+        /**
+         * Marks the flowable as terminated and stops observing the view.
+         */
+        private void terminate() {
+            mTerminated = true;
+            Disposable viewDisposable = mViewDisposable;
+            if (viewDisposable != null) {
+                viewDisposable.dispose();
+            }
+        }
+    }
 }
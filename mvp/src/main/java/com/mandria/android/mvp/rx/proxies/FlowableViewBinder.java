@@ -0,0 +1,56 @@
+package com.mandria.android.mvp.rx.proxies;
+
+import com.mandria.android.mvp.rx.BoundConsumer;
+
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableSubscriber;
+import io.reactivex.annotations.NonNull;
+import io.reactivex.disposables.Disposables;
+
+/**
+ * View binder for a replayed flowable.
+ * Items are dispatched synchronously to the consumer so the replayed flowable is requested without bound.
+ */
+final class FlowableViewBinder<View, Result> extends AbstractViewBinder<View, Result> implements FlowableSubscriber<Result> {
+
+    private final Flowable<Result> mSource;
+
+    /**
+     * Constructor.
+     *
+     * @param source   Replayed flowable.
+     * @param consumer Consumer to dispatch the events to.
+     */
+    FlowableViewBinder(Flowable<Result> source, BoundConsumer<View, Result> consumer) {
+        super(consumer);
+        mSource = source;
+    }
+
+    @Override
+    void subscribeActual() {
+        mSource.subscribe(this);
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Subscription s) {
+        mDisposables.add(Disposables.fromSubscription(s));
+        s.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(@NonNull Result result) {
+        next(result);
+    }
+
+    @Override
+    public void onError(@NonNull Throwable e) {
+        error(e);
+    }
+
+    @Override
+    public void onComplete() {
+        complete();
+    }
+}
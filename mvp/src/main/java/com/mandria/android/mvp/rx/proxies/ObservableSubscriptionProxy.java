@@ -1,18 +1,19 @@
 package com.mandria.android.mvp.rx.proxies;
 
-import com.mandria.android.mvp.rx.BoundData;
+import com.mandria.android.mvp.rx.BoundConsumer;
+import com.mandria.android.mvp.rx.ReplayPolicy;
 import com.mandria.android.mvp.rx.RxView;
 
 import io.reactivex.Observable;
 import io.reactivex.annotations.NonNull;
-import io.reactivex.disposables.Disposable;
-import io.reactivex.functions.Consumer;
 import io.reactivex.observers.DisposableObserver;
 import io.reactivex.subjects.ReplaySubject;
+import io.reactivex.subjects.Subject;
 
 /**
  * Proxy for the original observable subscription.
- * A {@link ReplaySubject} subscribes to the observable and is used to attach the {@link Consumer}.
+ * A {@link ReplaySubject} subscribes to the observable and is used to attach the {@link BoundConsumer}.
+ * The items kept by this subject are defined by the {@link ReplayPolicy} given at construction.
  */
 public class ObservableSubscriptionProxy<View, Result> extends AbstractSubscriptionProxy<View, Result> {
 
@@ -20,7 +21,7 @@ public class ObservableSubscriptionProxy<View, Result> extends AbstractSubscript
 
     private final DisposableObserver<Result> mReplayDisposable;
 
-    private Observable<BoundData<View, Result>> mObservable;
+    private final Subject<Result> mReplaySubject;
 
     /**
      * Constructor.
@@ -29,10 +30,21 @@ public class ObservableSubscriptionProxy<View, Result> extends AbstractSubscript
      * @param view        Observable that emits the view.
      */
     public ObservableSubscriptionProxy(Observable<Result> observable, Observable<RxView<View>> view) {
-        super();
+        this(observable, view, ReplayPolicy.unbounded());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param observable   Original observable.
+     * @param view         Observable that emits the view.
+     * @param replayPolicy Policy defining the items replayed when the view is attached again.
+     */
+    public ObservableSubscriptionProxy(Observable<Result> observable, Observable<RxView<View>> view, ReplayPolicy replayPolicy) {
+        super(view);
 
         // Creates a replay subject which will subscribe to the observable.
-        final ReplaySubject<Result> replaySubject = ReplaySubject.create();
+        final Subject<Result> replaySubject = replayPolicy.createSubject();
 
         mReplayDisposable = new DisposableObserver<Result>() {
             @Override
@@ -42,24 +54,21 @@ public class ObservableSubscriptionProxy<View, Result> extends AbstractSubscript
 
             @Override
             public void onError(@NonNull Throwable e) {
+                mTerminated = true;
                 replaySubject.onError(e);
             }
 
             @Override
             public void onComplete() {
+                mTerminated = true;
                 replaySubject.onComplete();
             }
         };
         observable.subscribe(mReplayDisposable);
 
-        // Keeps as the observable reference the combination of the view behaviour subject and the replay subject
-        // so that the original observable can continue its work and we can dispose from the replay subject
-        mObservable = Observable
-                .combineLatest(
-                        view,
-                        replaySubject.materialize(),
-                        mCombineFunction)
-                .filter(mFilterPredicate);
+        // Keeps the replay subject so that the original observable can continue its work
+        // and we can bind the view to the replayed events and dispose from them
+        mReplaySubject = replaySubject;
 
         // Adds the replaySubject subscription to the CompositeSubscription
         // to be able to dispose the replaySubject from the original observable
@@ -67,18 +76,8 @@ public class ObservableSubscriptionProxy<View, Result> extends AbstractSubscript
     }
 
     @Override
-    public Disposable subscribe(Consumer<BoundData<View, Result>> consumer) {
-        dispose();
-        mDisposable = mObservable.subscribe(consumer);
-        mCompositeDisposable.add(mDisposable);
-        return mDisposable;
-    }
-
-    @Override
-    public void dispose() {
-        if (mDisposable != null) {
-            mCompositeDisposable.remove(mDisposable);
-        }
+    AbstractViewBinder<View, Result> createBinder(BoundConsumer<View, Result> consumer) {
+        return new ObservableViewBinder<>(mReplaySubject, consumer);
     }
 
     /**
@@ -0,0 +1,52 @@
+package com.mandria.android.mvp.rx.proxies;
+
+import com.mandria.android.mvp.rx.BoundConsumer;
+
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.annotations.NonNull;
+import io.reactivex.disposables.Disposable;
+
+/**
+ * View binder for a replayed observable.
+ */
+final class ObservableViewBinder<View, Result> extends AbstractViewBinder<View, Result> implements Observer<Result> {
+
+    private final Observable<Result> mSource;
+
+    /**
+     * Constructor.
+     *
+     * @param source   Replayed observable.
+     * @param consumer Consumer to dispatch the events to.
+     */
+    ObservableViewBinder(Observable<Result> source, BoundConsumer<View, Result> consumer) {
+        super(consumer);
+        mSource = source;
+    }
+
+    @Override
+    void subscribeActual() {
+        mSource.subscribe(this);
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Disposable d) {
+        mDisposables.add(d);
+    }
+
+    @Override
+    public void onNext(@NonNull Result result) {
+        next(result);
+    }
+
+    @Override
+    public void onError(@NonNull Throwable e) {
+        error(e);
+    }
+
+    @Override
+    public void onComplete() {
+        complete();
+    }
+}
@@ -0,0 +1,48 @@
+package android.os;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * JVM stub of the android bundle, backed by a map, used by the tests saving and restoring a presenter state.
+ */
+public final class Bundle {
+
+    private final HashMap<String, Object> mMap = new HashMap<>();
+
+    public void setClassLoader(ClassLoader loader) {
+    }
+
+    public String getString(String key) {
+        return (String) mMap.get(key);
+    }
+
+    public void putString(String key, String value) {
+        mMap.put(key, value);
+    }
+
+    public Bundle getBundle(String key) {
+        return (Bundle) mMap.get(key);
+    }
+
+    public void putBundle(String key, Bundle value) {
+        mMap.put(key, value);
+    }
+
+    public byte[] getByteArray(String key) {
+        return (byte[]) mMap.get(key);
+    }
+
+    public void putByteArray(String key, byte[] value) {
+        mMap.put(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ArrayList<String> getStringArrayList(String key) {
+        return (ArrayList<String>) mMap.get(key);
+    }
+
+    public void putStringArrayList(String key, ArrayList<String> value) {
+        mMap.put(key, value);
+    }
+}
@@ -0,0 +1,246 @@
+package com.mandria.android.mvp;
+
+import android.content.ComponentCallbacks2;
+import android.support.annotation.NonNull;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.schedulers.TestScheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link PresenterCache}.
+ */
+public class PresenterCacheTest {
+
+    @Test
+    public void savedPresenterRetrievedById() {
+        PresenterCache cache = new PresenterCache();
+        TestPresenter presenter = new TestPresenter();
+
+        cache.savePresenter(presenter);
+        String id = cache.getId(presenter);
+
+        assertSame(presenter, cache.getPresenter(id));
+    }
+
+    @Test
+    public void savedPresenterKeepsItsId() {
+        PresenterCache cache = new PresenterCache();
+        TestPresenter presenter = new TestPresenter();
+
+        cache.savePresenter(presenter);
+        String id = cache.getId(presenter);
+        cache.savePresenter(presenter);
+
+        assertEquals(id, cache.getId(presenter));
+    }
+
+    @Test
+    public void removedPresenterNotRetrieved() {
+        PresenterCache cache = new PresenterCache();
+        TestPresenter presenter = new TestPresenter();
+
+        cache.savePresenter(presenter);
+        String id = cache.getId(presenter);
+        cache.removePresenter(presenter);
+
+        assertNull(cache.getPresenter(id));
+        assertNull(cache.getId(presenter));
+        assertFalse(presenter.mDestroyed);
+    }
+
+    @Test
+    public void saveRacingRemove() throws Exception {
+        for (int i = 0; i < 500; i++) {
+            final PresenterCache cache = new PresenterCache();
+            final TestPresenter presenter = new TestPresenter();
+            cache.savePresenter(presenter);
+            String savedId = cache.getId(presenter);
+
+            // The presenter is either removed from both directions, or cached again under a single id
+            Race.run(new Runnable() {
+                @Override
+                public void run() {
+                    cache.savePresenter(presenter);
+                }
+            }, new Runnable() {
+                @Override
+                public void run() {
+                    cache.removePresenter(presenter);
+                }
+            });
+
+            String id = cache.getId(presenter);
+            assertNull(cache.getPresenter(savedId));
+            if (id != null) {
+                assertNotEquals(savedId, id);
+                assertSame(presenter, cache.getPresenter(id));
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void duplicateIdRejected() {
+        PresenterCache cache = new PresenterCache(EvictionPolicy.none(), new PresenterIdGenerator() {
+            @NonNull
+            @Override
+            public String generateId(@NonNull Presenter presenter) {
+                return "id";
+            }
+        });
+
+        cache.savePresenter(new TestPresenter());
+        cache.savePresenter(new TestPresenter());
+    }
+
+    @Test
+    public void leastRecentlyDetachedEvictedOverMaxSize() {
+        PresenterCache cache = new PresenterCache(EvictionPolicy.maxSize(2));
+        final List<String> evictions = new ArrayList<>();
+        cache.setOnEvictionListener(new PresenterCache.OnEvictionListener() {
+            @Override
+            public void onPresenterEvicted(@NonNull String id, @NonNull Presenter presenter, @NonNull EvictionPolicy.Reason reason) {
+                evictions.add(id + " " + reason);
+            }
+        });
+        TestPresenter first = new TestPresenter();
+        TestPresenter second = new TestPresenter();
+        TestPresenter third = new TestPresenter();
+        cache.savePresenter(first);
+        cache.savePresenter(second);
+        cache.savePresenter(third);
+        String firstId = cache.getId(first);
+
+        // Presenters in use are never evicted
+        assertTrue(evictions.isEmpty());
+
+        cache.markViewDetached(second);
+        cache.markViewDetached(first);
+
+        assertTrue(second.mDestroyed);
+        assertFalse(first.mDestroyed);
+        assertFalse(third.mDestroyed);
+        assertEquals(1, evictions.size());
+        assertNull(cache.getId(second));
+        assertEquals(firstId, cache.getId(first));
+        assertTrue(evictions.get(0).endsWith(" " + EvictionPolicy.Reason.SIZE));
+    }
+
+    @Test
+    public void evictedPresenterCannotBeAttached() {
+        PresenterCache cache = new PresenterCache(EvictionPolicy.maxSize(1));
+        TestPresenter first = new TestPresenter();
+        TestPresenter second = new TestPresenter();
+        cache.savePresenter(first);
+        String id = cache.getId(first);
+        cache.markViewDetached(first);
+        cache.savePresenter(second);
+
+        assertTrue(first.mDestroyed);
+        assertFalse(cache.markViewAttached(first));
+        assertNull(cache.getPresenter(id));
+    }
+
+    @Test
+    public void retrievedPresenterNotEvicted() {
+        PresenterCache cache = new PresenterCache(EvictionPolicy.maxSize(1));
+        TestPresenter first = new TestPresenter();
+        cache.savePresenter(first);
+        cache.markViewDetached(first);
+
+        // Retrieved by its id after a configuration change, before its view is attached
+        assertSame(first, cache.getPresenter(cache.getId(first)));
+        cache.savePresenter(new TestPresenter());
+
+        assertFalse(first.mDestroyed);
+        assertTrue(cache.markViewAttached(first));
+    }
+
+    @Test
+    public void idlePresenterEvicted() {
+        TestScheduler clock = new TestScheduler();
+        PresenterCache cache = new PresenterCache(EvictionPolicy.maxIdleTime(10, TimeUnit.SECONDS),
+                new SequentialPresenterIdGenerator(), clock);
+        TestPresenter presenter = new TestPresenter();
+        cache.savePresenter(presenter);
+        cache.markViewDetached(presenter);
+
+        clock.advanceTimeBy(10, TimeUnit.SECONDS);
+        cache.evict();
+        assertFalse(presenter.mDestroyed);
+
+        clock.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        cache.evict();
+        assertTrue(presenter.mDestroyed);
+        assertNull(cache.getId(presenter));
+    }
+
+    @Test
+    public void evictionRacingAttach() throws Exception {
+        for (int i = 0; i < 500; i++) {
+            final PresenterCache cache = new PresenterCache(EvictionPolicy.maxSize(1));
+            final TestPresenter presenter = new TestPresenter();
+            cache.savePresenter(presenter);
+            cache.markViewDetached(presenter);
+
+            // The presenter is either evicted and destroyed, or attached and kept, never both
+            final AtomicBoolean attached = new AtomicBoolean();
+            Race.run(new Runnable() {
+                @Override
+                public void run() {
+                    attached.set(cache.markViewAttached(presenter));
+                }
+            }, new Runnable() {
+                @Override
+                public void run() {
+                    cache.savePresenter(new TestPresenter());
+                }
+            });
+
+            assertNotEquals(attached.get(), presenter.mDestroyed);
+            assertEquals(attached.get(), cache.getId(presenter) != null);
+        }
+    }
+
+    @Test
+    public void trimMemoryEvictsDetachedPresenters() {
+        PresenterCache cache = new PresenterCache();
+        TestPresenter detached = new TestPresenter();
+        TestPresenter attached = new TestPresenter();
+        cache.savePresenter(detached);
+        cache.savePresenter(attached);
+        cache.markViewDetached(detached);
+
+        cache.trimMemory(ComponentCallbacks2.TRIM_MEMORY_MODERATE);
+
+        assertTrue(detached.mDestroyed);
+        assertFalse(attached.mDestroyed);
+        assertNotNull(cache.getId(attached));
+    }
+
+    /**
+     * Presenter used by the tests, recording its destruction.
+     */
+    private static final class TestPresenter extends Presenter<Object> {
+
+        private volatile boolean mDestroyed;
+
+        @Override
+        protected void onDestroy() {
+            mDestroyed = true;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.mandria.android.mvp;
+
+import android.os.Bundle;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import io.reactivex.Scheduler;
+import io.reactivex.android.plugins.RxAndroidPlugins;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests of the asynchronous presenter creation of the {@link PresenterController}.
+ */
+public class PresenterControllerTest {
+
+    /**
+     * Actions posted to the main thread, run by the tests as the main looper would.
+     */
+    private final List<Runnable> mMainThreadActions = new ArrayList<>();
+
+    /**
+     * Creations submitted to the creation executor, run by the tests as a background thread would.
+     */
+    private final List<Runnable> mCreations = new ArrayList<>();
+
+    private final List<TestPresenter> mInstantiated = new ArrayList<>();
+
+    private final Object mView = new Object();
+
+    private final PresenterController<TestPresenter> mController = new PresenterController<TestPresenter>(new PresenterCache()) {
+        @NonNull
+        @Override
+        public TestPresenter instantiatePresenter() {
+            TestPresenter presenter = new TestPresenter();
+            mInstantiated.add(presenter);
+            return presenter;
+        }
+    };
+
+    @BeforeClass
+    public static void setUpMainThread() {
+        // The default main thread scheduler needs the main looper
+        RxAndroidPlugins.setInitMainThreadSchedulerHandler(new Function<Callable<Scheduler>, Scheduler>() {
+            @Override
+            public Scheduler apply(Callable<Scheduler> scheduler) {
+                return Schedulers.trampoline();
+            }
+        });
+    }
+
+    @Before
+    public void setUp() {
+        final Scheduler mainThread = Schedulers.from(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                mMainThreadActions.add(command);
+            }
+        });
+        RxAndroidPlugins.setMainThreadSchedulerHandler(new Function<Scheduler, Scheduler>() {
+            @Override
+            public Scheduler apply(Scheduler scheduler) {
+                return mainThread;
+            }
+        });
+
+        mController.setCreationExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                mCreations.add(command);
+            }
+        });
+        mController.onRestoreInstanceState(null);
+    }
+
+    @After
+    public void tearDown() {
+        RxAndroidPlugins.setMainThreadSchedulerHandler(null);
+    }
+
+    @Test
+    public void viewAttachedOnceCreated() {
+        mController.preparePresenter();
+        mController.attachViewToPresenter(mView);
+
+        // The attach is deferred until the presenter is created in the background
+        assertEquals(0, mInstantiated.size());
+        assertEquals(1, mCreations.size());
+
+        runAll(mCreations);
+        TestPresenter presenter = mInstantiated.get(0);
+        assertEquals(1, presenter.mCreations);
+        assertNull(presenter.getView());
+
+        runAll(mMainThreadActions);
+
+        assertSame(mView, presenter.getView());
+        assertEquals(1, presenter.mCreatedThenAttached);
+        assertSame(presenter, mController.getPresenter());
+        assertEquals(1, mInstantiated.size());
+    }
+
+    @Test
+    public void viewAttachedRightAwayWhenCreationDone() {
+        mController.preparePresenter();
+        runAll(mCreations);
+        mController.attachViewToPresenter(mView);
+
+        TestPresenter presenter = mInstantiated.get(0);
+        assertSame(mView, presenter.getView());
+        assertEquals(1, presenter.mCreatedThenAttached);
+
+        // The creation callback posted meanwhile does not attach the view again
+        runAll(mMainThreadActions);
+
+        assertEquals(1, presenter.mAttachments);
+        assertEquals(1, presenter.mCreatedThenAttached);
+    }
+
+    @Test
+    public void viewDetachedBeforeCreationNotAttached() {
+        mController.preparePresenter();
+        mController.attachViewToPresenter(mView);
+        mController.detachViewFromPresenter(false);
+
+        runAll(mCreations);
+        runAll(mMainThreadActions);
+
+        TestPresenter presenter = mInstantiated.get(0);
+        assertNull(presenter.getView());
+        assertEquals(0, presenter.mAttachments);
+        assertSame(presenter, mController.getPresenter());
+    }
+
+    /**
+     * Runs and clears the recorded actions.
+     *
+     * @param actions Actions.
+     */
+    private static void runAll(List<Runnable> actions) {
+        List<Runnable> running = new ArrayList<>(actions);
+        actions.clear();
+        for (Runnable action : running) {
+            action.run();
+        }
+    }
+
+    /**
+     * Presenter used by the tests, recording its lifecycle calls.
+     */
+    private static final class TestPresenter extends Presenter<Object> {
+
+        private int mCreations;
+
+        private int mAttachments;
+
+        private int mCreatedThenAttached;
+
+        @Override
+        protected void onCreate(@Nullable Bundle savedState) {
+            super.onCreate(savedState);
+            mCreations++;
+        }
+
+        @Override
+        protected void onViewAttached(@NonNull Object view) {
+            super.onViewAttached(view);
+            mAttachments++;
+        }
+
+        @Override
+        public void onCreatedThenAttached() {
+            super.onCreatedThenAttached();
+            mCreatedThenAttached++;
+        }
+    }
+}
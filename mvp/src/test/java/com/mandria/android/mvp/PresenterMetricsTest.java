@@ -0,0 +1,97 @@
+package com.mandria.android.mvp;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link PresenterMetrics} and {@link PresenterLifecycleStats}.
+ */
+public class PresenterMetricsTest {
+
+    private final PresenterLifecycleStats mStats = new PresenterLifecycleStats();
+
+    @After
+    public void tearDown() {
+        PresenterMetrics.setListener(null);
+    }
+
+    @Test
+    public void transitionReportedToListener() {
+        PresenterMetrics.setListener(mStats);
+
+        long start = PresenterMetrics.begin();
+        PresenterMetrics.end(new TestPresenter(), PresenterMetrics.Transition.CREATE, start);
+
+        assertEquals(1, mStats.getCount(TestPresenter.class, PresenterMetrics.Transition.CREATE));
+        assertEquals(0, mStats.getCount(TestPresenter.class, PresenterMetrics.Transition.DESTROY));
+    }
+
+    @Test
+    public void transitionBegunWithoutListenerNotReported() {
+        long start = PresenterMetrics.begin();
+        // The listener is set during the transition
+        PresenterMetrics.setListener(mStats);
+        PresenterMetrics.end(new TestPresenter(), PresenterMetrics.Transition.CREATE, start);
+
+        assertTrue(mStats.getPresenterClasses().isEmpty());
+    }
+
+    @Test
+    public void transitionEndedWithoutListenerNotReported() {
+        PresenterMetrics.setListener(mStats);
+        long start = PresenterMetrics.begin();
+        PresenterMetrics.setListener(null);
+        PresenterMetrics.end(new TestPresenter(), PresenterMetrics.Transition.CREATE, start);
+
+        assertTrue(mStats.getPresenterClasses().isEmpty());
+    }
+
+    @Test
+    public void statsAggregatedPerPresenterClassAndTransition() {
+        mStats.onTransition(TestPresenter.class, PresenterMetrics.Transition.ATTACH_VIEW, 10);
+        mStats.onTransition(TestPresenter.class, PresenterMetrics.Transition.ATTACH_VIEW, 30);
+        mStats.onTransition(TestPresenter.class, PresenterMetrics.Transition.ATTACH_VIEW, 20);
+        mStats.onTransition(TestPresenter.class, PresenterMetrics.Transition.DETACH_VIEW, 5);
+
+        assertEquals(Collections.<Class<? extends Presenter>>singleton(TestPresenter.class), mStats.getPresenterClasses());
+        assertEquals(3, mStats.getCount(TestPresenter.class, PresenterMetrics.Transition.ATTACH_VIEW));
+        assertEquals(60, mStats.getTotalTimeNanos(TestPresenter.class, PresenterMetrics.Transition.ATTACH_VIEW));
+        assertEquals(30, mStats.getMaxTimeNanos(TestPresenter.class, PresenterMetrics.Transition.ATTACH_VIEW));
+        assertEquals(1, mStats.getCount(TestPresenter.class, PresenterMetrics.Transition.DETACH_VIEW));
+        assertEquals(0, mStats.getCount(TestPresenter.class, PresenterMetrics.Transition.CREATE));
+
+        mStats.reset();
+
+        assertTrue(mStats.getPresenterClasses().isEmpty());
+        assertEquals(0, mStats.getCount(TestPresenter.class, PresenterMetrics.Transition.ATTACH_VIEW));
+    }
+
+    @Test
+    public void concurrentTransitionsAllCounted() throws Exception {
+        // Both threads add the stats of a presenter class seen for the first time
+        Runnable transitions = new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 1; i <= 1000; i++) {
+                    mStats.onTransition(TestPresenter.class, PresenterMetrics.Transition.CREATE, i);
+                }
+            }
+        };
+        Race.run(transitions, transitions);
+
+        assertEquals(2000, mStats.getCount(TestPresenter.class, PresenterMetrics.Transition.CREATE));
+        assertEquals(2 * 500500, mStats.getTotalTimeNanos(TestPresenter.class, PresenterMetrics.Transition.CREATE));
+        assertEquals(1000, mStats.getMaxTimeNanos(TestPresenter.class, PresenterMetrics.Transition.CREATE));
+    }
+
+    /**
+     * Presenter used by the tests.
+     */
+    private static final class TestPresenter extends Presenter<Object> {
+    }
+}
@@ -0,0 +1,60 @@
+package com.mandria.android.mvp;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs two actions at the same time to test how they interleave.
+ */
+public final class Race {
+
+    /**
+     * Constructor.
+     */
+    private Race() {
+    }
+
+    /**
+     * Runs two actions at the same time, the first one on a new thread and the second one on the calling thread.
+     *
+     * @param first  Action run on a new thread.
+     * @param second Action run on the calling thread.
+     * @throws InterruptedException If interrupted while waiting for the first action.
+     */
+    public static void run(final Runnable first, Runnable second) throws InterruptedException {
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    await(barrier);
+                    first.run();
+                } catch (Throwable t) {
+                    error.set(t);
+                }
+            }
+        });
+        thread.start();
+        await(barrier);
+        second.run();
+        thread.join();
+
+        if (error.get() != null) {
+            throw new AssertionError(error.get());
+        }
+    }
+
+    /**
+     * Waits for the other thread of the race.
+     *
+     * @param barrier Barrier shared by the racing threads.
+     */
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.mandria.android.mvp.rx;
+
+import com.mandria.android.mvp.rx.callbacks.OnError;
+import com.mandria.android.mvp.rx.callbacks.OnNext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Scheduler;
+import io.reactivex.android.plugins.RxAndroidPlugins;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the batch tasks of {@link RxPresenter} run by a {@link TaskLimiter}.
+ */
+public class BatchPolicyTest {
+
+    /**
+     * Actions scheduled on the main thread, never run since the JVM has no main looper.
+     */
+    private final List<Runnable> mMainThreadActions = new ArrayList<>();
+
+    private final TestScheduler mBatchScheduler = new TestScheduler();
+
+    private final RxPresenter<Object> mPresenter = new RxPresenter<>();
+
+    private final List<List<Integer>> mBatches = new ArrayList<>();
+
+    private final List<Throwable> mErrors = new ArrayList<>();
+
+    private final OnNext<Object, List<Integer>> mOnNext = new OnNext<Object, List<Integer>>() {
+        @Override
+        public void accept(Object view, List<Integer> batch) {
+            mBatches.add(batch);
+        }
+    };
+
+    private final OnError<Object> mOnError = new OnError<Object>() {
+        @Override
+        public void accept(Object view, Throwable throwable) {
+            mErrors.add(throwable);
+        }
+    };
+
+    @BeforeClass
+    public static void setUpMainThread() {
+        // The default main thread scheduler needs the main looper
+        RxAndroidPlugins.setInitMainThreadSchedulerHandler(new Function<Callable<Scheduler>, Scheduler>() {
+            @Override
+            public Scheduler apply(Callable<Scheduler> scheduler) {
+                return Schedulers.trampoline();
+            }
+        });
+    }
+
+    @Before
+    public void setUp() {
+        final Scheduler mainThread = Schedulers.from(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                mMainThreadActions.add(command);
+            }
+        });
+        RxAndroidPlugins.setMainThreadSchedulerHandler(new Function<Scheduler, Scheduler>() {
+            @Override
+            public Scheduler apply(Scheduler scheduler) {
+                return mainThread;
+            }
+        });
+
+        mPresenter.setTaskLimiter(new TaskLimiter(1));
+        mPresenter.create(null);
+        mPresenter.attachView(new Object());
+    }
+
+    @After
+    public void tearDown() {
+        mPresenter.destroy();
+        RxAndroidPlugins.setMainThreadSchedulerHandler(null);
+    }
+
+    @Test
+    public void queuedWindowBatchesDelivered() {
+        PublishSubject<Integer> running = PublishSubject.create();
+        PublishSubject<Integer> items = PublishSubject.create();
+        mPresenter.start("running", running, SchedulerPolicy.trampoline(), ReplayPolicy.unbounded(), null, null, null);
+        mPresenter.start("batch", items, SchedulerPolicy.trampoline(), ReplayPolicy.unbounded(),
+                BatchPolicy.window(1, TimeUnit.SECONDS, mBatchScheduler), mOnNext, mOnError, null);
+
+        assertFalse(items.hasObservers());
+
+        running.onComplete();
+        items.onNext(1);
+        items.onNext(2);
+        mBatchScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        items.onNext(3);
+        items.onComplete();
+        mBatchScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(3)), mBatches);
+        assertEquals(Collections.<Throwable>emptyList(), mErrors);
+        assertEquals(0, mPresenter.getTaskLimiter().getRunningCount());
+    }
+
+    @Test
+    public void queuedFrameBatchesLookUpChoreographerOnMainThread() throws InterruptedException {
+        final PublishSubject<Integer> running = PublishSubject.create();
+        final PublishSubject<Integer> items = PublishSubject.create();
+        mPresenter.start("running", running, SchedulerPolicy.trampoline(), ReplayPolicy.unbounded(), null, null, null);
+        mPresenter.start("batch", items, SchedulerPolicy.trampoline(), ReplayPolicy.unbounded(), BatchPolicy.frame(), mOnNext,
+                mOnError, null);
+
+        // The queued batch task is subscribed and emits on the thread ending the running task, which has no looper
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                running.onComplete();
+                items.onNext(1);
+                items.onNext(2);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertTrue(items.hasObservers());
+        assertEquals(Collections.<Throwable>emptyList(), mErrors);
+        // A single delivery is scheduled on the main thread, where the choreographer is looked up
+        assertEquals(1, mMainThreadActions.size());
+    }
+}
@@ -0,0 +1,142 @@
+package com.mandria.android.mvp.rx;
+
+import com.mandria.android.mvp.rx.proxies.FlowableSubscriptionProxy;
+
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.reactivex.Flowable;
+import io.reactivex.subjects.BehaviorSubject;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the flowable requests made according to a {@link DetachPolicy}.
+ */
+public class DetachPolicyTest {
+
+    private final TestPublisher mPublisher = new TestPublisher();
+
+    private final BehaviorSubject<RxView<Object>> mView = BehaviorSubject.create();
+
+    @Test
+    public void keepRequestingWithoutView() {
+        newProxy(DetachPolicy.keepRequesting());
+
+        assertEquals(Collections.singletonList(Long.MAX_VALUE), mPublisher.mRequests);
+    }
+
+    @Test
+    public void pauseUpstreamRequestsWhileViewAttached() {
+        newProxy(DetachPolicy.pauseUpstream(2));
+        assertEquals(Collections.<Long>emptyList(), mPublisher.mRequests);
+
+        attach();
+        assertEquals(Collections.singletonList(2L), mPublisher.mRequests);
+
+        mPublisher.emit(2);
+        assertEquals(Arrays.asList(2L, 2L), mPublisher.mRequests);
+    }
+
+    @Test
+    public void pauseUpstreamStopsOnceBatchEmitted() {
+        newProxy(DetachPolicy.pauseUpstream(2));
+        attach();
+        detach();
+
+        mPublisher.emit(2);
+        assertEquals(Collections.singletonList(2L), mPublisher.mRequests);
+
+        attach();
+        assertEquals(Arrays.asList(2L, 2L), mPublisher.mRequests);
+    }
+
+    @Test
+    public void pauseResumeNeverRequestsTwice() {
+        newProxy(DetachPolicy.pauseUpstream(2));
+
+        // The current batch is not emitted yet, attaching again must not request another one
+        attach();
+        detach();
+        attach();
+        attach();
+        assertEquals(Collections.singletonList(2L), mPublisher.mRequests);
+
+        mPublisher.emit(1);
+        detach();
+        attach();
+        assertEquals(Collections.singletonList(2L), mPublisher.mRequests);
+
+        mPublisher.emit(1);
+        assertEquals(Arrays.asList(2L, 2L), mPublisher.mRequests);
+    }
+
+    /**
+     * Creates a proxy subscribing to the test publisher.
+     *
+     * @param detachPolicy Detach policy.
+     * @return The proxy.
+     */
+    private FlowableSubscriptionProxy<Object, Integer> newProxy(DetachPolicy detachPolicy) {
+        return new FlowableSubscriptionProxy<>(Flowable.fromPublisher(mPublisher), mView, ReplayPolicy.unbounded(), detachPolicy);
+    }
+
+    /**
+     * Attaches a view.
+     */
+    private void attach() {
+        mView.onNext(new RxView<Object>(new Object()));
+    }
+
+    /**
+     * Detaches the view.
+     */
+    private void detach() {
+        mView.onNext(new RxView<Object>(null));
+    }
+
+    /**
+     * Publisher recording the requests and emitting when asked by the tests.
+     */
+    private static final class TestPublisher implements Publisher<Integer> {
+
+        private final List<Long> mRequests = new ArrayList<>();
+
+        private Subscriber<? super Integer> mSubscriber;
+
+        private int mNext;
+
+        @Override
+        public void subscribe(Subscriber<? super Integer> subscriber) {
+            mSubscriber = subscriber;
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    mRequests.add(n);
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+
+        /**
+         * Emits items.
+         *
+         * @param count Number of items to emit.
+         */
+        void emit(int count) {
+            for (int i = 0; i < count; i++) {
+                mSubscriber.onNext(mNext++);
+            }
+        }
+    }
+}
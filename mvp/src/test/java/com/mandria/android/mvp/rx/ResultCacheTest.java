@@ -0,0 +1,159 @@
+package com.mandria.android.mvp.rx;
+
+import android.content.ComponentCallbacks2;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.TestScheduler;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the {@link ResultCache}.
+ */
+public class ResultCacheTest {
+
+    private final TestScheduler mClock = new TestScheduler();
+
+    private final ResultCache mCache = new ResultCache(2, 10, TimeUnit.SECONDS, mClock);
+
+    @Test
+    public void servesResultsWithinTimeToLive() {
+        Task task = new Task();
+
+        mCache.memoize("key", task.observable()).test().assertResult(1);
+        mClock.advanceTimeBy(9, TimeUnit.SECONDS);
+        mCache.memoize("key", task.observable()).test().assertResult(1);
+
+        assertEquals(1, task.mRuns.get());
+    }
+
+    @Test
+    public void runsAgainOnceExpired() {
+        Task task = new Task();
+
+        mCache.memoize("key", task.observable()).test().assertResult(1);
+        mClock.advanceTimeBy(10, TimeUnit.SECONDS);
+        mCache.memoize("key", task.observable()).test().assertResult(2);
+
+        assertEquals(2, task.mRuns.get());
+    }
+
+    @Test
+    public void defaultClockServesResultsWithinTimeToLive() {
+        ResultCache cache = new ResultCache(2, 1, TimeUnit.HOURS);
+        Task task = new Task();
+
+        cache.memoize("key", task.observable()).test().assertResult(1);
+        cache.memoize("key", task.observable()).test().assertResult(1);
+
+        assertEquals(1, task.mRuns.get());
+    }
+
+    @Test
+    public void dropsLeastRecentlyUsedResults() {
+        Task first = new Task();
+        Task second = new Task();
+        Task third = new Task();
+
+        mCache.memoize("first", first.observable()).test();
+        mCache.memoize("second", second.observable()).test();
+        // Uses the first results so that the second ones are the least recently used
+        mCache.memoize("first", first.observable()).test();
+        mCache.memoize("third", third.observable()).test();
+
+        mCache.memoize("first", first.observable()).test().assertResult(1);
+        mCache.memoize("second", second.observable()).test().assertResult(2);
+        assertEquals(1, first.mRuns.get());
+    }
+
+    @Test
+    public void revalidateServesExpiredResultsThenRefreshes() {
+        Task task = new Task();
+
+        mCache.memoize("key", task.observable(), true).test().assertResult(1);
+        mClock.advanceTimeBy(1, TimeUnit.MINUTES);
+        mCache.memoize("key", task.observable(), true).test().assertResult(1, 2);
+        mCache.memoize("key", task.observable()).test().assertResult(2);
+
+        assertEquals(2, task.mRuns.get());
+    }
+
+    @Test
+    public void revalidateFlowable() {
+        Task task = new Task();
+
+        mCache.memoize("key", task.flowable(), true).test().assertResult(1);
+        mCache.memoize("key", task.flowable(), true).test().assertResult(1, 2);
+    }
+
+    @Test
+    public void failedTaskNotCached() {
+        mCache.memoize("key", Observable.<Integer>error(new IllegalStateException())).test()
+                .assertError(IllegalStateException.class);
+
+        Task task = new Task();
+        mCache.memoize("key", task.observable()).test().assertResult(1);
+    }
+
+    @Test
+    public void invalidateRemovesResults() {
+        Task task = new Task();
+
+        mCache.memoize("key", task.observable()).test();
+        mCache.invalidate("key");
+        mCache.memoize("key", task.observable()).test().assertResult(2);
+    }
+
+    @Test
+    public void trimMemoryDropsExpiredResults() {
+        Task expired = new Task();
+        Task valid = new Task();
+
+        mCache.memoize("expired", expired.observable(), true).test();
+        mClock.advanceTimeBy(5, TimeUnit.SECONDS);
+        mCache.memoize("valid", valid.observable()).test();
+        mClock.advanceTimeBy(5, TimeUnit.SECONDS);
+
+        mCache.trimMemory(ComponentCallbacks2.TRIM_MEMORY_BACKGROUND);
+
+        // Expired results are no longer served while revalidating
+        mCache.memoize("expired", expired.observable(), true).test().assertResult(2);
+        mCache.memoize("valid", valid.observable()).test().assertResult(1);
+    }
+
+    /**
+     * Task emitting its run count.
+     */
+    private static final class Task {
+
+        private final AtomicInteger mRuns = new AtomicInteger();
+
+        private final Callable<Integer> mRun = new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return mRuns.incrementAndGet();
+            }
+        };
+
+        /**
+         * @return An observable running the task.
+         */
+        Observable<Integer> observable() {
+            return Observable.fromCallable(mRun);
+        }
+
+        /**
+         * @return A flowable running the task.
+         */
+        Flowable<Integer> flowable() {
+            return Flowable.fromCallable(mRun);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.mandria.android.mvp.rx;
+
+import com.mandria.android.mvp.Race;
+import com.mandria.android.mvp.rx.callbacks.OnCompleted;
+import com.mandria.android.mvp.rx.callbacks.OnNext;
+
+import android.os.Bundle;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.android.plugins.RxAndroidPlugins;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.PublishSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the tasks of the {@link RxPresenter}.
+ */
+public class RxPresenterTest {
+
+    private final RxPresenter<Object> mPresenter = new RxPresenter<>();
+
+    private final List<String> mCompletions = new ArrayList<>();
+
+    private final List<Integer> mResults = new ArrayList<>();
+
+    private final OnNext<Object, Integer> mOnNext = new OnNext<Object, Integer>() {
+        @Override
+        public void accept(@NonNull Object view, Integer result) {
+            mResults.add(result);
+        }
+    };
+
+    private final ResultSerializer<Integer> mSerializer = new SerializableResultSerializer<>();
+
+    @BeforeClass
+    public static void setUpMainThread() {
+        // The default main thread scheduler needs the main looper
+        RxAndroidPlugins.setInitMainThreadSchedulerHandler(new Function<Callable<Scheduler>, Scheduler>() {
+            @Override
+            public Scheduler apply(Callable<Scheduler> scheduler) {
+                return Schedulers.trampoline();
+            }
+        });
+    }
+
+    @Before
+    public void setUp() {
+        mPresenter.create(null);
+        mPresenter.attachView(new Object());
+    }
+
+    @After
+    public void tearDown() {
+        mPresenter.destroy();
+        RxPresenter.setDefaultTaskLimiter(null);
+    }
+
+    @Test
+    public void presenterAndDefaultLimitersBothApplied() {
+        TaskLimiter defaultLimiter = new TaskLimiter(1);
+        TaskLimiter presenterLimiter = new TaskLimiter(2);
+        RxPresenter.setDefaultTaskLimiter(defaultLimiter);
+        mPresenter.setTaskLimiter(presenterLimiter);
+        PublishSubject<Integer> first = PublishSubject.create();
+        PublishSubject<Integer> second = PublishSubject.create();
+        PublishSubject<Integer> third = PublishSubject.create();
+
+        mPresenter.start("first", first, SchedulerPolicy.trampoline(), ReplayPolicy.unbounded(), null, null, null);
+        mPresenter.start("second", second, SchedulerPolicy.trampoline(), ReplayPolicy.unbounded(), null, null, null);
+        mPresenter.start("third", third, SchedulerPolicy.trampoline(), ReplayPolicy.unbounded(), null, null, null);
+
+        // The second task has a slot of the presenter limiter and waits for the one of the default limiter
+        assertTrue(first.hasObservers());
+        assertFalse(second.hasObservers());
+        assertFalse(third.hasObservers());
+        assertEquals(2, presenterLimiter.getRunningCount());
+        assertEquals(1, presenterLimiter.getQueuedCount());
+        assertEquals(1, defaultLimiter.getRunningCount());
+        assertEquals(1, defaultLimiter.getQueuedCount());
+
+        first.onComplete();
+
+        assertTrue(second.hasObservers());
+        assertFalse(third.hasObservers());
+        assertEquals(1, defaultLimiter.getRunningCount());
+        assertEquals(1, defaultLimiter.getQueuedCount());
+    }
+
+    @Test
+    public void replaceDisposesReplacedUpstream() {
+        PublishSubject<Integer> replaced = PublishSubject.create();
+        PublishSubject<Integer> replacing = PublishSubject.create();
+
+        start(replaced, StartMode.RESUME, "replaced");
+        start(replacing, StartMode.REPLACE, "replacing");
+
+        assertFalse(replaced.hasObservers());
+        assertTrue(replacing.hasObservers());
+
+        replacing.onComplete();
+
+        assertEquals(Arrays.asList("replacing"), mCompletions);
+    }
+
+    @Test
+    public void ignoreIfRunningDropsNewTaskWhileRunning() {
+        PublishSubject<Integer> running = PublishSubject.create();
+        PublishSubject<Integer> ignored = PublishSubject.create();
+        PublishSubject<Integer> started = PublishSubject.create();
+
+        start(running, StartMode.RESUME, "running");
+        start(ignored, StartMode.IGNORE_IF_RUNNING, "ignored");
+
+        assertTrue(running.hasObservers());
+        assertFalse(ignored.hasObservers());
+
+        // The running task terminates while the view is detached, its results are dropped by the new task
+        mPresenter.detachView();
+        running.onComplete();
+        start(started, StartMode.IGNORE_IF_RUNNING, "started");
+        mPresenter.attachView(new Object());
+
+        assertTrue(started.hasObservers());
+
+        started.onComplete();
+
+        assertEquals(Arrays.asList("started"), mCompletions);
+    }
+
+    @Test
+    public void enqueueStartsTasksInOrderOnceResultsDelivered() {
+        PublishSubject<Integer> first = PublishSubject.create();
+        PublishSubject<Integer> second = PublishSubject.create();
+        PublishSubject<Integer> third = PublishSubject.create();
+
+        start(first, StartMode.ENQUEUE, "first");
+        start(second, StartMode.ENQUEUE, "second");
+        start(third, StartMode.ENQUEUE, "third");
+
+        assertTrue(first.hasObservers());
+        assertFalse(second.hasObservers());
+        assertFalse(third.hasObservers());
+
+        first.onComplete();
+
+        assertTrue(second.hasObservers());
+        assertFalse(third.hasObservers());
+
+        // The second task terminates while the view is detached, the third one waits for its results to be delivered
+        mPresenter.detachView();
+        second.onComplete();
+
+        assertFalse(third.hasObservers());
+
+        mPresenter.attachView(new Object());
+
+        assertTrue(third.hasObservers());
+
+        third.onComplete();
+
+        assertEquals(Arrays.asList("first", "second", "third"), mCompletions);
+    }
+
+    @Test
+    public void concurrentStartsSubscribeOnce() throws Exception {
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final Observable<Integer> task = Observable.<Integer>never().doOnSubscribe(new Consumer<Disposable>() {
+            @Override
+            public void accept(Disposable disposable) {
+                subscriptions.incrementAndGet();
+            }
+        });
+
+        for (int i = 0; i < 500; i++) {
+            final String tag = "task" + i;
+            subscriptions.set(0);
+
+            // The task started second is resumed or ignored without being subscribed
+            Race.run(new Runnable() {
+                @Override
+                public void run() {
+                    mPresenter.start(tag, task, SchedulerPolicy.trampoline(), ReplayPolicy.unbounded(), null, null, null);
+                }
+            }, new Runnable() {
+                @Override
+                public void run() {
+                    mPresenter.start(tag, task, SchedulerPolicy.trampoline(), ReplayPolicy.unbounded(), null, null, null);
+                }
+            });
+
+            assertEquals(1, subscriptions.get());
+        }
+    }
+
+    @Test
+    public void persistedResultRestoredFromBundle() {
+        PublishSubject<Integer> task = PublishSubject.create();
+        mPresenter.start("task", mPresenter.persist("task", task, mSerializer), SchedulerPolicy.trampoline(),
+                ReplayPolicy.unbounded(), mOnNext, null, null);
+
+        // The result is not delivered before the process dies
+        mPresenter.detachView();
+        task.onNext(1);
+        task.onComplete();
+        Bundle state = new Bundle();
+        mPresenter.save(state);
+
+        RxPresenter<Object> restored = new RxPresenter<>();
+        restored.create(state);
+        restored.attachView(new Object());
+        PublishSubject<Integer> restarted = PublishSubject.create();
+        restored.start("task", restored.persist("task", restarted, mSerializer), SchedulerPolicy.trampoline(),
+                ReplayPolicy.unbounded(), mOnNext, null, null);
+
+        assertEquals(Collections.singletonList(1), mResults);
+        assertFalse(restarted.hasObservers());
+
+        // The delivered result is not restored again
+        Bundle delivered = new Bundle();
+        restored.save(delivered);
+        assertNull(delivered.getStringArrayList("RxPresenter.persistedTags"));
+        restored.destroy();
+    }
+
+    @Test
+    public void persistedResultRestoredFromStoreOnce() {
+        MapResultStore store = new MapResultStore();
+        mPresenter.setResultStore(store);
+        PublishSubject<Integer> task = PublishSubject.create();
+        mPresenter.start("task", mPresenter.persist("task", task, mSerializer), SchedulerPolicy.trampoline(),
+                ReplayPolicy.unbounded(), mOnNext, null, null);
+
+        mPresenter.detachView();
+        task.onNext(1);
+        task.onComplete();
+        Bundle state = new Bundle();
+        mPresenter.save(state);
+
+        assertEquals(1, store.mResults.size());
+
+        RxPresenter<Object> restored = new RxPresenter<>();
+        restored.setResultStore(store);
+        restored.create(state);
+        restored.attachView(new Object());
+        PublishSubject<Integer> restarted = PublishSubject.create();
+        restored.start("task", restored.persist("task", restarted, mSerializer), SchedulerPolicy.trampoline(),
+                ReplayPolicy.unbounded(), mOnNext, null, null);
+
+        assertEquals(Collections.singletonList(1), mResults);
+        assertFalse(restarted.hasObservers());
+        // The result is removed from the store once delivered
+        assertTrue(store.mResults.isEmpty());
+        restored.destroy();
+    }
+
+    /**
+     * Starts a task recording its completion.
+     *
+     * @param task      Task.
+     * @param startMode Start mode.
+     * @param name      Name recorded when the completion of the task is delivered.
+     */
+    private void start(Observable<Integer> task, StartMode startMode, final String name) {
+        mPresenter.start("task", task, SchedulerPolicy.trampoline(), ReplayPolicy.unbounded(), startMode, null, null,
+                new OnCompleted<Object>() {
+                    @Override
+                    public void accept(@NonNull Object view) {
+                        mCompletions.add(name);
+                    }
+                });
+    }
+
+    /**
+     * Result store backed by a map.
+     */
+    private static final class MapResultStore implements ResultStore {
+
+        private final HashMap<String, byte[]> mResults = new HashMap<>();
+
+        @Override
+        public void put(@NonNull String key, @NonNull byte[] data) {
+            mResults.put(key, data);
+        }
+
+        @Nullable
+        @Override
+        public byte[] get(@NonNull String key) {
+            return mResults.get(key);
+        }
+
+        @Override
+        public void remove(@NonNull String key) {
+            mResults.remove(key);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.mandria.android.mvp.rx;
+
+import com.mandria.android.mvp.Race;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.functions.Consumer;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subscribers.TestSubscriber;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link SharedTaskRegistry}.
+ */
+public class SharedTaskRegistryTest {
+
+    private final SharedTaskRegistry mRegistry = new SharedTaskRegistry();
+
+    private final AtomicInteger mSubscriptions = new AtomicInteger();
+
+    private final Consumer<Object> mCountSubscription = new Consumer<Object>() {
+        @Override
+        public void accept(Object o) {
+            mSubscriptions.incrementAndGet();
+        }
+    };
+
+    /**
+     * Upstream of the last run of the task.
+     */
+    private volatile PublishSubject<Integer> mUpstream;
+
+    /**
+     * Task whose runs each subscribe to a new upstream.
+     */
+    private final Observable<Integer> mTask = Observable.defer(new Callable<ObservableSource<Integer>>() {
+        @Override
+        public ObservableSource<Integer> call() {
+            mUpstream = PublishSubject.create();
+            return mUpstream;
+        }
+    }).doOnSubscribe(mCountSubscription);
+
+    @Test
+    public void subscribersShareOneUpstreamSubscription() {
+        TestObserver<Integer> first = mRegistry.share("key", mTask).test();
+        mUpstream.onNext(1);
+        TestObserver<Integer> second = mRegistry.share("key", mTask).test();
+        mUpstream.onNext(2);
+        mUpstream.onComplete();
+
+        assertEquals(1, mSubscriptions.get());
+        first.assertResult(1, 2);
+        // Items emitted before joining the task are replayed
+        second.assertResult(1, 2);
+        assertFalse(mRegistry.isInFlight("key"));
+    }
+
+    @Test
+    public void disposingAllSubscribersReleasesKey() {
+        PublishSubject<Integer> upstream = PublishSubject.create();
+
+        TestObserver<Integer> first = mRegistry.share("key", upstream).test();
+        TestObserver<Integer> second = mRegistry.share("key", upstream).test();
+        first.dispose();
+
+        assertTrue(mRegistry.isInFlight("key"));
+        assertTrue(upstream.hasObservers());
+
+        second.dispose();
+
+        assertFalse(mRegistry.isInFlight("key"));
+        assertFalse(upstream.hasObservers());
+    }
+
+    @Test
+    public void subscriberAfterCompletionStartsRegisteredTask() {
+        TestObserver<Integer> first = mRegistry.share("key", mTask).test();
+        mUpstream.onComplete();
+        first.assertResult();
+
+        TestObserver<Integer> second = mRegistry.share("key", mTask).test();
+        TestObserver<Integer> third = mRegistry.share("key", mTask).test();
+        mUpstream.onNext(1);
+
+        assertEquals(2, mSubscriptions.get());
+        assertTrue(mRegistry.isInFlight("key"));
+        second.assertValues(1);
+        third.assertValues(1);
+    }
+
+    @Test
+    public void subscriberRacingCompletion() throws Exception {
+        for (int i = 0; i < 500; i++) {
+            final SharedTaskRegistry registry = new SharedTaskRegistry();
+            mSubscriptions.set(0);
+            registry.share("key", mTask).test();
+            final PublishSubject<Integer> upstream = mUpstream;
+
+            // The late subscriber either receives the results of the first run, or starts a run every later subscriber joins
+            final TestObserver<Integer> late = new TestObserver<>();
+            Race.run(new Runnable() {
+                @Override
+                public void run() {
+                    upstream.onComplete();
+                }
+            }, new Runnable() {
+                @Override
+                public void run() {
+                    registry.share("key", mTask).subscribe(late);
+                }
+            });
+
+            if (late.completions() == 0) {
+                assertEquals(2, mSubscriptions.get());
+                assertTrue(registry.isInFlight("key"));
+                registry.share("key", mTask).test();
+                assertEquals(2, mSubscriptions.get());
+            } else {
+                assertEquals(1, mSubscriptions.get());
+                assertFalse(registry.isInFlight("key"));
+            }
+        }
+    }
+
+    @Test
+    public void flowableSubscribersShareOneUpstreamSubscription() {
+        PublishProcessor<Integer> upstream = PublishProcessor.create();
+        Flowable<Integer> task = upstream.doOnSubscribe(mCountSubscription);
+
+        TestSubscriber<Integer> first = mRegistry.share("key", task).test();
+        TestSubscriber<Integer> second = mRegistry.share("key", task).test();
+        upstream.onNext(1);
+
+        assertEquals(1, mSubscriptions.get());
+        first.assertValues(1);
+        second.assertValues(1);
+
+        first.dispose();
+        second.dispose();
+
+        assertFalse(mRegistry.isInFlight("key"));
+        assertFalse(upstream.hasSubscribers());
+    }
+}
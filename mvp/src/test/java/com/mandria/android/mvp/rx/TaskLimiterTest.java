@@ -0,0 +1,239 @@
+package com.mandria.android.mvp.rx;
+
+import com.mandria.android.mvp.Race;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link TaskLimiter}.
+ */
+public class TaskLimiterTest {
+
+    private final TestOwner mOwner = new TestOwner(true);
+
+    @Test
+    public void queuesTasksOverTheLimit() {
+        TaskLimiter limiter = new TaskLimiter(2);
+        PublishSubject<Integer> first = PublishSubject.create();
+        PublishSubject<Integer> second = PublishSubject.create();
+        PublishSubject<Integer> third = PublishSubject.create();
+
+        limiter.apply(first, mOwner).subscribe(new TestObserver<Integer>());
+        limiter.apply(second, mOwner).subscribe(new TestObserver<Integer>());
+        limiter.apply(third, mOwner).subscribe(new TestObserver<Integer>());
+
+        assertTrue(first.hasObservers());
+        assertTrue(second.hasObservers());
+        assertFalse(third.hasObservers());
+        assertEquals(2, limiter.getRunningCount());
+        assertEquals(1, limiter.getQueuedCount());
+
+        first.onComplete();
+
+        assertTrue(third.hasObservers());
+        assertEquals(2, limiter.getRunningCount());
+        assertEquals(0, limiter.getQueuedCount());
+    }
+
+    @Test
+    public void cancelWhileQueued() {
+        TaskLimiter limiter = new TaskLimiter(1);
+        PublishSubject<Integer> running = PublishSubject.create();
+        PublishSubject<Integer> queued = PublishSubject.create();
+
+        limiter.apply(running, mOwner).subscribe(new TestObserver<Integer>());
+        TestObserver<Integer> observer = limiter.apply(queued, mOwner).test();
+        assertEquals(1, limiter.getQueuedCount());
+
+        observer.dispose();
+
+        assertEquals(0, limiter.getQueuedCount());
+        assertEquals(1, limiter.getRunningCount());
+
+        running.onComplete();
+
+        assertFalse(queued.hasObservers());
+        assertEquals(0, limiter.getRunningCount());
+    }
+
+    @Test
+    public void cancelWhileRunningReleasesSlot() {
+        TaskLimiter limiter = new TaskLimiter(1);
+        PublishSubject<Integer> running = PublishSubject.create();
+        PublishSubject<Integer> queued = PublishSubject.create();
+
+        TestObserver<Integer> observer = limiter.apply(running, mOwner).test();
+        limiter.apply(queued, mOwner).subscribe(new TestObserver<Integer>());
+
+        observer.dispose();
+
+        assertFalse(running.hasObservers());
+        assertTrue(queued.hasObservers());
+        assertEquals(1, limiter.getRunningCount());
+    }
+
+    @Test
+    public void cancelRacingGrant() throws Exception {
+        for (int i = 0; i < 500; i++) {
+            final TaskLimiter limiter = new TaskLimiter(1);
+            final PublishSubject<Integer> running = PublishSubject.create();
+            limiter.apply(running, mOwner).subscribe(new TestObserver<Integer>());
+            final TestObserver<Integer> queued = limiter.apply(Observable.<Integer>never(), mOwner).test();
+
+            // The running task terminates, granting its slot to the queued task, while the queued task is cancelled
+            Race.run(new Runnable() {
+                @Override
+                public void run() {
+                    running.onComplete();
+                }
+            }, new Runnable() {
+                @Override
+                public void run() {
+                    queued.dispose();
+                }
+            });
+
+            assertEquals(0, limiter.getRunningCount());
+            assertEquals(0, limiter.getQueuedCount());
+        }
+    }
+
+    @Test
+    public void synchronousCompletionInsideGrant() {
+        TaskLimiter limiter = new TaskLimiter(1);
+        PublishSubject<Integer> running = PublishSubject.create();
+        limiter.apply(running, mOwner).subscribe(new TestObserver<Integer>());
+
+        // Each queued task terminates while its slot is granted, the drain loop must not recurse
+        List<TestObserver<Integer>> observers = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            observers.add(limiter.apply(Observable.just(i), mOwner).test());
+        }
+        assertEquals(10000, limiter.getQueuedCount());
+
+        running.onComplete();
+
+        for (int i = 0; i < observers.size(); i++) {
+            observers.get(i).assertResult(i);
+        }
+        assertEquals(0, limiter.getRunningCount());
+        assertEquals(0, limiter.getQueuedCount());
+    }
+
+    @Test
+    public void foregroundTasksFirst() {
+        TaskLimiter limiter = new TaskLimiter(1);
+        PublishSubject<Integer> running = PublishSubject.create();
+        PublishSubject<Integer> background = PublishSubject.create();
+        PublishSubject<Integer> foreground = PublishSubject.create();
+
+        limiter.apply(running, mOwner).subscribe(new TestObserver<Integer>());
+        limiter.apply(background, new TestOwner(false)).subscribe(new TestObserver<Integer>());
+        limiter.apply(foreground, new TestOwner(true)).subscribe(new TestObserver<Integer>());
+
+        running.onComplete();
+
+        assertTrue(foreground.hasObservers());
+        assertFalse(background.hasObservers());
+
+        foreground.onComplete();
+
+        assertTrue(background.hasObservers());
+    }
+
+    @Test
+    public void attachMovesQueuedTasksToForeground() {
+        TaskLimiter limiter = new TaskLimiter(1);
+        TestOwner detached = new TestOwner(false);
+        TestOwner attached = new TestOwner(false);
+        PublishSubject<Integer> running = PublishSubject.create();
+        PublishSubject<Integer> first = PublishSubject.create();
+        PublishSubject<Integer> second = PublishSubject.create();
+
+        limiter.apply(running, mOwner).subscribe(new TestObserver<Integer>());
+        limiter.apply(first, detached).subscribe(new TestObserver<Integer>());
+        limiter.apply(second, attached).subscribe(new TestObserver<Integer>());
+
+        attached.mHasView = true;
+        limiter.updatePriority(attached);
+        running.onComplete();
+
+        assertTrue(second.hasObservers());
+        assertFalse(first.hasObservers());
+        assertEquals(1, limiter.getQueuedCount());
+    }
+
+    @Test
+    public void detachMovesQueuedTasksToBackground() {
+        TaskLimiter limiter = new TaskLimiter(1);
+        TestOwner detached = new TestOwner(true);
+        TestOwner attached = new TestOwner(true);
+        PublishSubject<Integer> running = PublishSubject.create();
+        PublishSubject<Integer> first = PublishSubject.create();
+        PublishSubject<Integer> second = PublishSubject.create();
+
+        limiter.apply(running, mOwner).subscribe(new TestObserver<Integer>());
+        limiter.apply(first, detached).subscribe(new TestObserver<Integer>());
+        limiter.apply(second, attached).subscribe(new TestObserver<Integer>());
+
+        detached.mHasView = false;
+        limiter.updatePriority(detached);
+        running.onComplete();
+
+        assertTrue(second.hasObservers());
+        assertFalse(first.hasObservers());
+    }
+
+    @Test
+    public void cancelAfterPriorityUpdate() {
+        TaskLimiter limiter = new TaskLimiter(1);
+        TestOwner owner = new TestOwner(false);
+        PublishSubject<Integer> running = PublishSubject.create();
+        PublishSubject<Integer> queued = PublishSubject.create();
+
+        limiter.apply(running, mOwner).subscribe(new TestObserver<Integer>());
+        TestObserver<Integer> observer = limiter.apply(queued, owner).test();
+        owner.mHasView = true;
+        limiter.updatePriority(owner);
+
+        observer.dispose();
+        running.onComplete();
+
+        assertFalse(queued.hasObservers());
+        assertEquals(0, limiter.getQueuedCount());
+        assertEquals(0, limiter.getRunningCount());
+    }
+
+    /**
+     * Owner whose view state is set by the tests.
+     */
+    private static final class TestOwner implements TaskLimiter.Owner {
+
+        private volatile boolean mHasView;
+
+        /**
+         * Constructor.
+         *
+         * @param hasView True if the view is attached.
+         */
+        private TestOwner(boolean hasView) {
+            mHasView = hasView;
+        }
+
+        @Override
+        public boolean hasView() {
+            return mHasView;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.mandria.android.mvp.rx;
+
+import android.content.ComponentCallbacks2;
+import android.support.annotation.NonNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Scheduler;
+import io.reactivex.android.plugins.RxAndroidPlugins;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.PublishSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests of the {@link TaskStats} published by the {@link RxPresenter}.
+ */
+public class TaskStatsTest {
+
+    private final RxPresenter<Object> mPresenter = new RxPresenter<>();
+
+    private final List<TaskStats> mFinished = new ArrayList<>();
+
+    private final PublishSubject<Integer> mTask = PublishSubject.create();
+
+    @BeforeClass
+    public static void setUpMainThread() {
+        // The default main thread scheduler needs the main looper
+        RxAndroidPlugins.setInitMainThreadSchedulerHandler(new Function<Callable<Scheduler>, Scheduler>() {
+            @Override
+            public Scheduler apply(Callable<Scheduler> scheduler) {
+                return Schedulers.trampoline();
+            }
+        });
+    }
+
+    @Before
+    public void setUp() {
+        mPresenter.setTaskMetrics(new TaskMetrics() {
+            @Override
+            public void onTaskFinished(@NonNull TaskStats stats) {
+                mFinished.add(stats);
+            }
+        });
+        mPresenter.create(null);
+        mPresenter.attachView(new Object());
+        mPresenter.start("task", mTask, SchedulerPolicy.trampoline(), ReplayPolicy.unbounded(), null, null, null);
+    }
+
+    @After
+    public void tearDown() {
+        if (!mPresenter.isDestroyed()) {
+            mPresenter.destroy();
+        }
+    }
+
+    @Test
+    public void completedTaskCounted() {
+        mTask.onNext(1);
+        // Items emitted while the view is detached are buffered until it is attached again
+        mPresenter.detachView();
+        mTask.onNext(2);
+        mTask.onNext(3);
+        mTask.onComplete();
+
+        assertEquals(0, mFinished.size());
+
+        mPresenter.attachView(new Object());
+
+        assertEquals(1, mFinished.size());
+        TaskStats stats = mFinished.get(0);
+        assertEquals("task", stats.getTag());
+        assertSame(RxPresenter.class, stats.getPresenterClass());
+        assertEquals(TaskStats.Outcome.COMPLETED, stats.getOutcome());
+        assertEquals(3, stats.getItemCount());
+        assertEquals(2, stats.getBufferedCount());
+        assertEquals(1, stats.getResumeCount());
+    }
+
+    @Test
+    public void failedTaskCounted() {
+        mTask.onError(new Exception());
+
+        assertEquals(1, mFinished.size());
+        assertEquals(TaskStats.Outcome.FAILED, mFinished.get(0).getOutcome());
+        assertEquals(-1, mFinished.get(0).getTimeToFirstItemNanos());
+    }
+
+    @Test
+    public void cancelledTaskFinishedOnce() {
+        mPresenter.cancel("task");
+        mPresenter.destroy();
+
+        assertEquals(1, mFinished.size());
+        assertEquals(TaskStats.Outcome.CANCELLED, mFinished.get(0).getOutcome());
+    }
+
+    @Test
+    public void destroyedPresenterCancelsWithCancelAll() {
+        mTask.onNext(1);
+        mPresenter.destroy();
+
+        assertEquals(1, mFinished.size());
+        assertEquals(TaskStats.Outcome.CANCELLED_BY_CANCEL_ALL, mFinished.get(0).getOutcome());
+        assertEquals(1, mFinished.get(0).getItemCount());
+    }
+
+    @Test
+    public void droppedResultsFinishedOnce() {
+        mPresenter.detachView();
+        mTask.onNext(1);
+        mTask.onComplete();
+        mPresenter.trimMemory(ComponentCallbacks2.TRIM_MEMORY_BACKGROUND);
+        mPresenter.attachView(new Object());
+        mPresenter.destroy();
+
+        assertEquals(1, mFinished.size());
+        assertEquals(TaskStats.Outcome.DROPPED, mFinished.get(0).getOutcome());
+    }
+}
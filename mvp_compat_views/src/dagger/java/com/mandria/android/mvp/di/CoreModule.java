@@ -1,6 +1,8 @@
 package com.mandria.android.mvp.di;
 
+import com.mandria.android.mvp.EvictionPolicy;
 import com.mandria.android.mvp.PresenterCache;
+import com.mandria.android.mvp.rx.SharedTaskRegistry;
 
 import javax.inject.Singleton;
 
@@ -13,6 +15,24 @@ import dagger.Provides;
 @Module
 public class CoreModule {
 
+    private final EvictionPolicy mEvictionPolicy;
+
+    /**
+     * Constructor, cached presenters are never evicted.
+     */
+    public CoreModule() {
+        this(EvictionPolicy.none());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param evictionPolicy Policy defining when the presenter cache evicts detached presenters.
+     */
+    public CoreModule(EvictionPolicy evictionPolicy) {
+        mEvictionPolicy = evictionPolicy;
+    }
+
     /**
      * Provides the presenter cache.
      *
@@ -21,6 +41,17 @@ public class CoreModule {
     @Singleton
     @Provides
     public PresenterCache getPresenterCache() {
-        return new PresenterCache();
+        return new PresenterCache(mEvictionPolicy);
+    }
+
+    /**
+     * Provides the registry of the in flight tasks shared between presenters.
+     *
+     * @return Shared task registry.
+     */
+    @Singleton
+    @Provides
+    public SharedTaskRegistry getSharedTaskRegistry() {
+        return new SharedTaskRegistry();
     }
 }
@@ -0,0 +1,23 @@
+package com.mandria.android.mvp.provider;
+
+import com.mandria.android.mvp.Presenter;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * <p>This interface gives the presenter class of the {@link PresenterClass} annotated presenter owners without reflection.</p>
+ * <p>An implementation is generated at build time by the mvp_processor annotation processor, see
+ * {@link PresenterProvider#setPresenterClassRegistry(PresenterClassRegistry)}.</p>
+ */
+public interface PresenterClassRegistry {
+
+    /**
+     * Gets the presenter class of an owner.
+     *
+     * @param ownerClass Presenter owner class.
+     * @return The presenter class declared by its {@link PresenterClass} annotation, null if the owner is unknown.
+     */
+    @Nullable
+    Class<? extends Presenter> getPresenterClass(@NonNull Class<?> ownerClass);
+}
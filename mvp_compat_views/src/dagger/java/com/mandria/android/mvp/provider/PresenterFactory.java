@@ -3,25 +3,37 @@ package com.mandria.android.mvp.provider;
 import com.mandria.android.mvp.MVPLogger;
 import com.mandria.android.mvp.Presenter;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
 /**
- * Presenter factory.
+ * <p>Presenter factory.</p>
+ * <p>A presenter class which is not bound is resolved to the only bound subclass, the resolution being memoized so that every
+ * creation after the first one is a single map lookup.</p>
  */
 public class PresenterFactory {
 
     private final Map<Class<? extends Presenter>, Provider<Presenter>> mCreators;
 
+    /**
+     * Providers of the resolved presenter classes, bound or not.
+     */
+    private final ConcurrentHashMap<Class<? extends Presenter>, Provider<Presenter>> mResolved = new ConcurrentHashMap<>();
+
     @Inject
     public PresenterFactory(Map<Class<? extends Presenter>, Provider<Presenter>> creators) {
         mCreators = creators;
     }
 
     /**
-     * Creates a fully injected presenter. If no presenter can be instantiated, an exception is thrown.
+     * Creates a fully injected presenter. If no presenter can be instantiated or if several bound subclasses match an unbound
+     * presenter class, an exception is thrown.
      *
      * @param presenterClass Presenter class.
      * @param <T>            Presenter instance.
@@ -29,17 +41,10 @@ public class PresenterFactory {
      */
     @SuppressWarnings("unchecked")
     public <T extends Presenter> T create(Class<T> presenterClass) {
-        Provider<Presenter> presenterProvider = mCreators.get(presenterClass);
+        Provider<Presenter> presenterProvider = mResolved.get(presenterClass);
         if (presenterProvider == null) {
-            for (Map.Entry<Class<? extends Presenter>, Provider<Presenter>> entry : mCreators.entrySet()) {
-                if (presenterClass.isAssignableFrom(entry.getKey())) {
-                    presenterProvider = entry.getValue();
-                }
-            }
-        }
-
-        if (presenterProvider == null) {
-            throw new IllegalArgumentException("Class " + presenterClass + " seems not provided");
+            presenterProvider = resolve(presenterClass);
+            mResolved.put(presenterClass, presenterProvider);
         }
 
         try {
@@ -49,4 +54,35 @@ public class PresenterFactory {
             throw e;
         }
     }
+
+    /**
+     * Resolves the provider of a presenter class, either bound or the only bound subclass.
+     *
+     * @param presenterClass Presenter class.
+     * @return The provider.
+     */
+    private Provider<Presenter> resolve(Class<? extends Presenter> presenterClass) {
+        Provider<Presenter> presenterProvider = mCreators.get(presenterClass);
+        if (presenterProvider != null) {
+            return presenterProvider;
+        }
+
+        List<String> matches = new ArrayList<>();
+        for (Map.Entry<Class<? extends Presenter>, Provider<Presenter>> entry : mCreators.entrySet()) {
+            if (presenterClass.isAssignableFrom(entry.getKey())) {
+                presenterProvider = entry.getValue();
+                matches.add(entry.getKey().getName());
+            }
+        }
+
+        if (presenterProvider == null) {
+            throw new IllegalArgumentException("Class " + presenterClass + " seems not provided");
+        }
+        if (matches.size() > 1) {
+            // Sorted so that the message does not depend on the map order
+            Collections.sort(matches);
+            throw new IllegalArgumentException("Class " + presenterClass + " is ambiguous, it matches " + matches);
+        }
+        return presenterProvider;
+    }
 }
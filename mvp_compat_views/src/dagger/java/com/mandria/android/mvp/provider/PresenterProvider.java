@@ -3,15 +3,29 @@ package com.mandria.android.mvp.provider;
 import com.mandria.android.mvp.HasPresenter;
 import com.mandria.android.mvp.Presenter;
 import com.mandria.android.mvp.PresenterCache;
+import com.mandria.android.mvp.PresenterCreation;
+import com.mandria.android.mvp.PresenterMetrics;
+import com.mandria.android.mvp.PresenterStateStore;
 
 import android.os.Bundle;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
 import javax.inject.Inject;
 
 /**
- * This class is responsible of the presenter lifecycle and presenter provision.
+ * <p>This class is responsible of the presenter lifecycle and presenter provision.</p>
+ * <p>The presenter state is saved in the controller bundle, or in a {@link PresenterStateStore} if one is set with
+ * {@link #setDefaultStateStore(PresenterStateStore)} or {@link #setStateStore(PresenterStateStore)} to keep the saved instance state
+ * small.</p>
+ * <p>With a creation executor, the presenter is instantiated by the factory and created on this executor from
+ * {@link #preparePresenter(HasPresenter)} while the view inflates its layout, and the view is attached once the presenter is ready.
+ * The presenter providers and {@link Presenter#onCreate(Bundle)} must then be safe to call from a background thread.</p>
  */
 public final class PresenterProvider {
 
@@ -21,20 +35,137 @@ public final class PresenterProvider {
 
     private static final String PRESENTER_ID_KEY = "com.mandria.android.mvp.presenter.id";
 
+    private static final String PRESENTER_SNAPSHOT_KEY = "com.mandria.android.mvp.presenter.snapshot";
+
+    /**
+     * Presenter classes of the owners which are not in the registry, read once from their annotation.
+     */
+    private static final ConcurrentHashMap<Class<?>, Class<? extends Presenter>> ANNOTATED_PRESENTER_CLASSES =
+            new ConcurrentHashMap<>();
+
+    private static volatile PresenterClassRegistry sPresenterClassRegistry;
+
+    /**
+     * Executor creating the presenters of all the providers which do not define their own executor.
+     */
+    private static volatile Executor sDefaultCreationExecutor;
+
+    /**
+     * Store of the presenter states of all the providers which do not define their own store.
+     */
+    private static volatile PresenterStateStore sDefaultStateStore;
+
     private final PresenterCache mPresenterCache;
 
     private final PresenterFactory mPresenterFactory;
 
+    private PresenterStateStore mStateStore;
+
     private Bundle mBundle;
 
     private Presenter mPresenter;
 
+    private Class<? extends Presenter> mPresenterClass;
+
     private boolean mPresenterHasView;
 
+    private Future<Bundle> mSnapshot;
+
+    private String mSnapshotId;
+
+    private Executor mCreationExecutor;
+
+    private PresenterCreation<Presenter> mCreation;
+
+    private Object mPendingView;
+
     @Inject
     public PresenterProvider(PresenterCache presenterCache, PresenterFactory presenterFactory) {
         mPresenterCache = presenterCache;
         mPresenterFactory = presenterFactory;
+        mStateStore = sDefaultStateStore;
+    }
+
+    /**
+     * Sets the registry of the presenter classes generated by the mvp_processor annotation processor, so that the
+     * {@link PresenterClass} annotation of the presenter owners is not read by reflection. Owners missing from the registry, e.g.
+     * inheriting the annotation, fall back to reflection once per owner class.
+     *
+     * @param registry Generated registry, null to only use reflection.
+     */
+    public static void setPresenterClassRegistry(@Nullable PresenterClassRegistry registry) {
+        sPresenterClassRegistry = registry;
+    }
+
+    /**
+     * Sets the executor creating the presenters of all the providers which do not define their own executor.
+     *
+     * @param executor Default creation executor, null to create the presenters on the main thread.
+     */
+    public static void setDefaultCreationExecutor(@Nullable Executor executor) {
+        sDefaultCreationExecutor = executor;
+    }
+
+    /**
+     * Sets the store of the presenter states of all the providers created afterwards which do not define their own store.
+     *
+     * @param stateStore Default state store, null to save the presenter states in the saved instance state of the views.
+     */
+    public static void setDefaultStateStore(@Nullable PresenterStateStore stateStore) {
+        sDefaultStateStore = stateStore;
+    }
+
+    /**
+     * Sets the store of the presenter state, it should be set before {@link #onRestoreInstanceState(Bundle)} is called.
+     *
+     * @param stateStore State store, null to save the presenter state in the saved instance state of the view.
+     */
+    public void setStateStore(@Nullable PresenterStateStore stateStore) {
+        mStateStore = stateStore;
+    }
+
+    /**
+     * Sets the executor creating the presenter, it should be set before {@link #preparePresenter(HasPresenter)} is called.
+     *
+     * @param executor Creation executor, null to use the default creation executor.
+     */
+    public void setCreationExecutor(@Nullable Executor executor) {
+        mCreationExecutor = executor;
+    }
+
+    /**
+     * Gets the executor creating the presenter.
+     *
+     * @return The executor of this provider if any, else the default creation executor, null to create the presenter on the main
+     * thread.
+     */
+    @Nullable
+    private Executor getCreationExecutor() {
+        return mCreationExecutor != null ? mCreationExecutor : sDefaultCreationExecutor;
+    }
+
+    /**
+     * Gets the presenter class of an owner from the registry or from its annotation.
+     *
+     * @param ownerClass Presenter owner class.
+     * @return The presenter class.
+     */
+    @NonNull
+    private static Class<? extends Presenter> getPresenterClass(@NonNull Class<?> ownerClass) {
+        PresenterClassRegistry registry = sPresenterClassRegistry;
+        Class<? extends Presenter> presenterClass = registry == null ? null : registry.getPresenterClass(ownerClass);
+        if (presenterClass == null) {
+            presenterClass = ANNOTATED_PRESENTER_CLASSES.get(ownerClass);
+        }
+        if (presenterClass == null) {
+            PresenterClass annotation = ownerClass.getAnnotation(PresenterClass.class);
+            if (annotation == null) {
+                throw new IllegalArgumentException("HasPresenter owner does not provide @PresenterClass annotation");
+            }
+            presenterClass = annotation.value();
+            ANNOTATED_PRESENTER_CLASSES.put(ownerClass, presenterClass);
+        }
+        return presenterClass;
     }
 
     /**
@@ -57,28 +188,126 @@ public final class PresenterProvider {
      */
     private <P extends Presenter> void createPresenter(@NonNull Class<P> presenterClass) {
         if (mPresenter == null) {
-            mPresenter = mPresenterFactory.create(presenterClass);
+            mPresenter = newPresenter(presenterClass, mBundle, mSnapshot);
             mPresenterCache.savePresenter(mPresenter);
-            // Passes presenter bundle if available
-            mPresenter.create(mBundle == null ? null : mBundle.getBundle(PRESENTER_BUNDLE_KEY));
         }
 
         mBundle = null;
+        mSnapshot = null;
     }
 
     /**
-     * Prepares the presenter by retrieving it from the cache or instantiating a new one using the factory.
+     * Instantiates a presenter using the factory and performs the call to {@link Presenter#create(Bundle)}, the caller stores it
+     * in the cache.
+     * Can be called from the creation executor.
+     *
+     * @param presenterClass   Presenter class.
+     * @param controllerBundle Controller bundle, null if there is none.
+     * @param snapshot         Snapshot being loaded by the state store, null if there is none.
+     * @return The created presenter.
+     */
+    @NonNull
+    private Presenter newPresenter(@NonNull Class<? extends Presenter> presenterClass, @Nullable Bundle controllerBundle,
+            @Nullable Future<Bundle> snapshot) {
+        long start = PresenterMetrics.begin();
+        Presenter presenter = mPresenterFactory.create(presenterClass);
+        PresenterMetrics.end(presenter, PresenterMetrics.Transition.INSTANTIATE, start);
+        // Passes presenter bundle if available
+        start = PresenterMetrics.begin();
+        presenter.create(getPresenterBundle(presenter, controllerBundle, snapshot));
+        PresenterMetrics.end(presenter, PresenterMetrics.Transition.CREATE, start);
+        return presenter;
+    }
+
+    /**
+     * Gets the presenter bundle from the controller bundle or from the snapshot being loaded by the state store.
+     *
+     * @param presenter        Presenter to create.
+     * @param controllerBundle Controller bundle, null if there is none.
+     * @param snapshot         Snapshot being loaded by the state store, null if there is none.
+     * @return The presenter bundle, null if there is none.
+     */
+    @Nullable
+    private static Bundle getPresenterBundle(@NonNull Presenter presenter, @Nullable Bundle controllerBundle,
+            @Nullable Future<Bundle> snapshot) {
+        if (controllerBundle == null) {
+            return null;
+        }
+
+        Bundle presenterBundle = controllerBundle.getBundle(PRESENTER_BUNDLE_KEY);
+        if (presenterBundle == null && snapshot != null) {
+            presenterBundle = PresenterStateStore.get(snapshot);
+            if (presenterBundle != null) {
+                presenterBundle.setClassLoader(presenter.getClass().getClassLoader());
+            }
+        }
+        return presenterBundle;
+    }
+
+    /**
+     * Starts the creation of the presenter on the creation executor.
+     *
+     * @param executor       Creation executor.
+     * @param presenterClass Presenter class.
+     */
+    private void createPresenterAsync(@NonNull Executor executor, @NonNull final Class<? extends Presenter> presenterClass) {
+        final Bundle controllerBundle = mBundle;
+        final Future<Bundle> snapshot = mSnapshot;
+        mBundle = null;
+        mSnapshot = null;
+        mCreation = new PresenterCreation<>(executor, new Callable<Presenter>() {
+            @Override
+            public Presenter call() {
+                return newPresenter(presenterClass, controllerBundle, snapshot);
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                onPresenterCreated();
+            }
+        });
+    }
+
+    /**
+     * Attaches the view whose attach has been deferred until the presenter is created, called on the main thread.
+     */
+    private void onPresenterCreated() {
+        if (mCreation != null && mPendingView != null) {
+            Object view = mPendingView;
+            mPendingView = null;
+            attachViewToPresenter(view);
+        }
+    }
+
+    /**
+     * Waits for the presenter being created on the creation executor if any and stores it in the cache.
+     */
+    private void awaitPresenterCreation() {
+        if (mCreation != null) {
+            PresenterCreation<Presenter> creation = mCreation;
+            mCreation = null;
+            mPresenter = creation.get();
+            // Stored on the main thread as storing a presenter may evict and destroy other presenters
+            mPresenterCache.savePresenter(mPresenter);
+        }
+    }
+
+    /**
+     * Prepares the presenter by retrieving it from the cache or instantiating a new one using the factory, on the creation executor
+     * if any.
      *
      * @param presenterOwner Presenter owner that implements {@link HasPresenter}.
      * @param <P>            Presenter.
      */
     public <P extends Presenter> void preparePresenter(@NonNull HasPresenter<P> presenterOwner) {
-        PresenterClass annotation = presenterOwner.getClass().getAnnotation(PresenterClass.class);
-        if (annotation == null) {
-            throw new IllegalArgumentException("HasPresenter owner does not provide @PresenterClass annotation");
-        }
-        if (!loadPresenterFromCache()) {
-            createPresenter(annotation.value());
+        mPresenterClass = getPresenterClass(presenterOwner.getClass());
+        if (mCreation == null && !loadPresenterFromCache()) {
+            Executor executor = getCreationExecutor();
+            if (executor != null) {
+                createPresenterAsync(executor, mPresenterClass);
+            } else {
+                createPresenter(mPresenterClass);
+            }
         }
     }
 
@@ -88,40 +317,87 @@ public final class PresenterProvider {
      * @return A bundle with presenter state.
      */
     public Bundle onSaveInstanceState() {
+        awaitPresenterCreation();
+
         Bundle controllerBundle = new Bundle();
+        if (releaseDestroyedPresenter()) {
+            // Nothing to save, a new presenter is created when the view is attached again
+            return controllerBundle;
+        }
 
-        // Stores the presenter bundle in this controller bundle
         Bundle presenterBundle = new Bundle();
         mPresenter.save(presenterBundle);
-        controllerBundle.putBundle(PRESENTER_BUNDLE_KEY, presenterBundle);
+        String id = mPresenterCache.getId(mPresenter);
+
+        if (mStateStore != null && id != null) {
+            // Writes the presenter bundle in the background and only stores its id in this controller bundle
+            mStateStore.save(id, mPresenter.getClass(), presenterBundle);
+            if (mSnapshotId != null && !mSnapshotId.equals(id)) {
+                mStateStore.remove(mSnapshotId);
+            }
+            mSnapshotId = id;
+            controllerBundle.putString(PRESENTER_SNAPSHOT_KEY, id);
+        } else {
+            // Stores the presenter bundle in this controller bundle
+            controllerBundle.putBundle(PRESENTER_BUNDLE_KEY, presenterBundle);
+        }
 
         // Saves the presenter id in the bundle to reattach the view to the presenter
-        controllerBundle.putString(PRESENTER_ID_KEY, mPresenterCache.getId(mPresenter));
+        controllerBundle.putString(PRESENTER_ID_KEY, id);
 
         return controllerBundle;
     }
 
     /**
-     * Allows the presenter to restore its state.
+     * <p>Allows the presenter to restore its state.<br>
+     * If the presenter state has been saved in the state store and the presenter is not in cache anymore, its snapshot starts
+     * loading in the background.</p>
      *
      * @param presenterState Bundle with the presenter state.
      */
     public void onRestoreInstanceState(@Nullable Bundle presenterState) {
         mBundle = presenterState;
+        if (mStateStore != null && presenterState != null) {
+            String snapshotId = presenterState.getString(PRESENTER_SNAPSHOT_KEY);
+            if (snapshotId != null) {
+                mSnapshotId = snapshotId;
+                if (!loadPresenterFromCache()) {
+                    mSnapshot = mStateStore.load(snapshotId);
+                }
+            }
+        }
     }
 
     /**
-     * Attaches the view to the presenter.
+     * Attaches the view to the presenter, or once the presenter is created if it is being created on the creation executor.
      *
      * @param view View to attache.
      */
     @SuppressWarnings("unchecked")
     public void attachViewToPresenter(@NonNull Object view) {
+        if (mCreation != null && !mCreation.isDone()) {
+            // Attached on the main thread once the presenter is created
+            mPendingView = view;
+            return;
+        }
+        awaitPresenterCreation();
+
+        if (!mPresenterHasView && mPresenter != null && !mPresenterCache.markViewAttached(mPresenter)) {
+            // The presenter has been evicted from the cache while the view was detached
+            mPresenter = null;
+        }
+        if (mPresenter == null) {
+            createPresenter(mPresenterClass);
+        }
         if (!mPresenterHasView) {
             if (mPresenter.getView() == null) {
+                long start = PresenterMetrics.begin();
                 mPresenter.attachView(view);
+                PresenterMetrics.end(mPresenter, PresenterMetrics.Transition.ATTACH_VIEW, start);
                 if (!mPresenterHasView) {
+                    start = PresenterMetrics.begin();
                     mPresenter.onCreatedThenAttached();
+                    PresenterMetrics.end(mPresenter, PresenterMetrics.Transition.CREATED_THEN_ATTACHED, start);
                 }
                 mPresenterHasView = true;
             }
@@ -134,22 +410,62 @@ public final class PresenterProvider {
      * @param destroy True if the {@link Presenter#destroy()} should be called..
      */
     public void detachViewFromPresenter(boolean destroy) {
+        mPendingView = null;
+        if (destroy) {
+            awaitPresenterCreation();
+            mPresenterClass = null;
+        }
+        releaseDestroyedPresenter();
+
         // Presenter can be null if doing on back :
         // - onPause is called
         // - finish is called
         if (mPresenter != null) {
             if (mPresenterHasView) {
+                long start = PresenterMetrics.begin();
                 mPresenter.detachView();
+                PresenterMetrics.end(mPresenter, PresenterMetrics.Transition.DETACH_VIEW, start);
                 mPresenterHasView = false;
+                if (!destroy) {
+                    mPresenterCache.markViewDetached(mPresenter);
+                }
             }
             if (destroy) {
+                long start = PresenterMetrics.begin();
                 mPresenter.destroy();
+                PresenterMetrics.end(mPresenter, PresenterMetrics.Transition.DESTROY, start);
                 mPresenterCache.removePresenter(mPresenter);
                 mPresenter = null;
+                removeSnapshot();
             }
         }
     }
 
+    /**
+     * <p>Releases the presenter if it has been destroyed while the view was detached, i.e. evicted from the cache.<br>
+     * The destroyed presenter is neither saved nor destroyed again, a new one is created when it is needed.</p>
+     *
+     * @return True if the presenter has been released.
+     */
+    private boolean releaseDestroyedPresenter() {
+        if (mPresenter != null && !mPresenterHasView && mPresenter.isDestroyed()) {
+            mPresenter = null;
+            removeSnapshot();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the snapshot of the presenter state from the state store.
+     */
+    private void removeSnapshot() {
+        if (mStateStore != null && mSnapshotId != null) {
+            mStateStore.remove(mSnapshotId);
+            mSnapshotId = null;
+        }
+    }
+
     /**
      * Calls the {@link Presenter#destroy()} method.
      */
@@ -158,11 +474,19 @@ public final class PresenterProvider {
     }
 
     /**
+     * Gets the presenter, waiting for its creation on the creation executor if needed.
+     *
      * @return Presenter instance.
      */
     @SuppressWarnings("unchecked")
     @NonNull
     public <P extends Presenter> P getPresenter() {
+        awaitPresenterCreation();
+        releaseDestroyedPresenter();
+        if (mPresenter == null && mPresenterClass != null) {
+            // The presenter has been evicted from the cache while the view was detached
+            createPresenter(mPresenterClass);
+        }
         if (mPresenter == null) {
             throw new IllegalStateException("Call preparePresenter() before accessing presenter");
         }
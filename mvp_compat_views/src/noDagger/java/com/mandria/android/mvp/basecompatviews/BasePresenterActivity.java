@@ -34,6 +34,8 @@ public abstract class BasePresenterActivity<P extends Presenter> extends AppComp
         if (savedInstanceState != null) {
             mPresenterController.onRestoreInstanceState(savedInstanceState.getBundle(PresenterController.CONTROLLER_STATE_KEY));
         }
+
+        mPresenterController.preparePresenter();
     }
 
     @Override
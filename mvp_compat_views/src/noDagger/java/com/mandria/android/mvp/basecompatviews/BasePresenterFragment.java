@@ -36,6 +36,8 @@ public abstract class BasePresenterFragment<P extends Presenter> extends Fragmen
             mPresenterController
                     .onRestoreInstanceState(savedInstanceState.getBundle(PresenterController.CONTROLLER_STATE_KEY));
         }
+
+        mPresenterController.preparePresenter();
     }
 
     @Override
@@ -0,0 +1,118 @@
+package com.mandria.android.mvp.provider;
+
+import com.mandria.android.mvp.Presenter;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests of the {@link PresenterFactory}.
+ */
+public class PresenterFactoryTest {
+
+    private final CountingCreators mCreators = new CountingCreators();
+
+    private final PresenterFactory mFactory = new PresenterFactory(mCreators);
+
+    @Test
+    public void boundClassCreatedByItsProvider() {
+        mCreators.bind(FirstPresenter.class);
+
+        assertEquals(FirstPresenter.class, mFactory.create(FirstPresenter.class).getClass());
+        assertEquals(0, mCreators.mIterations);
+    }
+
+    @Test
+    public void unboundClassResolvedOnceToBoundSubclass() {
+        mCreators.bind(FirstPresenter.class);
+
+        BasePresenter first = mFactory.create(BasePresenter.class);
+        BasePresenter second = mFactory.create(BasePresenter.class);
+
+        assertEquals(FirstPresenter.class, first.getClass());
+        assertNotSame(first, second);
+        // The bound subclasses are only looked up by the first creation
+        assertEquals(1, mCreators.mIterations);
+    }
+
+    @Test
+    public void ambiguousClassRejected() {
+        mCreators.bind(FirstPresenter.class);
+        mCreators.bind(SecondPresenter.class);
+
+        try {
+            mFactory.create(BasePresenter.class);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().endsWith(
+                    "[" + FirstPresenter.class.getName() + ", " + SecondPresenter.class.getName() + "]"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unprovidedClassRejected() {
+        mCreators.bind(FirstPresenter.class);
+
+        mFactory.create(SecondPresenter.class);
+    }
+
+    /**
+     * Presenter providers bound by the tests, counting the lookups of the bound subclasses.
+     */
+    private static final class CountingCreators extends HashMap<Class<? extends Presenter>, Provider<Presenter>> {
+
+        private int mIterations;
+
+        /**
+         * Binds a presenter class to a provider instantiating it.
+         *
+         * @param presenterClass Presenter class.
+         */
+        private void bind(final Class<? extends Presenter> presenterClass) {
+            put(presenterClass, new Provider<Presenter>() {
+                @Override
+                public Presenter get() {
+                    try {
+                        return presenterClass.newInstance();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public Set<Map.Entry<Class<? extends Presenter>, Provider<Presenter>>> entrySet() {
+            mIterations++;
+            return super.entrySet();
+        }
+    }
+
+    /**
+     * Presenter class which is not bound.
+     */
+    public static class BasePresenter extends Presenter<Object> {
+    }
+
+    /**
+     * First bound subclass.
+     */
+    public static class FirstPresenter extends BasePresenter {
+    }
+
+    /**
+     * Second bound subclass.
+     */
+    public static class SecondPresenter extends BasePresenter {
+    }
+}
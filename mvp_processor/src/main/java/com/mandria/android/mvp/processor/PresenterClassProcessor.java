@@ -0,0 +1,356 @@
+package com.mandria.android.mvp.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * <p>Annotation processor reading the {@code @PresenterClass} annotations at build time.</p>
+ * <p>It generates a {@code PresenterClassRegistry} mapping each annotated presenter owner to its presenter class, to be set with
+ * {@code PresenterProvider.setPresenterClassRegistry} so that the annotation is not read by reflection on each screen creation.
+ * The registry is named {@code GeneratedPresenterClassRegistry}, in the package given by the {@code mvp.registryPackage} option or
+ * else in the common package of the annotated owners.</p>
+ * <p>An owner is left out of the registry, its presenter class being read by reflection, if the owner or its presenter class cannot
+ * be referenced from the registry package, e.g. a package-private class outside of this package.</p>
+ * <p>The build fails if an annotated owner does not implement {@code HasPresenter}, and, when the dagger presenter bindings are
+ * compiled along the owners, if a presenter class is not bound or matches several bound subclasses.</p>
+ */
+public final class PresenterClassProcessor extends AbstractProcessor {
+
+    private static final String PRESENTER_CLASS = "com.mandria.android.mvp.provider.PresenterClass";
+
+    private static final String REGISTRY_PACKAGE_OPTION = "mvp.registryPackage";
+
+    private static final String INTO_MAP = "dagger.multibindings.IntoMap";
+
+    private static final String MAP_KEY = "dagger.MapKey";
+
+    private static final String HAS_PRESENTER = "com.mandria.android.mvp.HasPresenter";
+
+    private static final String PRESENTER = "com.mandria.android.mvp.Presenter";
+
+    private static final String REGISTRY_NAME = "GeneratedPresenterClassRegistry";
+
+    private boolean mGenerated;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> types = new HashSet<>();
+        types.add(PRESENTER_CLASS);
+        types.add(INTO_MAP);
+        return types;
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(REGISTRY_PACKAGE_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement presenterClassAnnotation = processingEnv.getElementUtils().getTypeElement(PRESENTER_CLASS);
+        if (presenterClassAnnotation == null) {
+            return false;
+        }
+
+        // Owners sorted by name so that the generated registry does not depend on the round order
+        Map<String, TypeElement> owners = new TreeMap<>();
+        Map<String, String> presenterClasses = new TreeMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(presenterClassAnnotation)) {
+            TypeElement owner = (TypeElement) element;
+            TypeMirror presenterClass = getClassValue(getAnnotation(owner, PRESENTER_CLASS));
+            if (presenterClass != null && checkOwner(owner)) {
+                String ownerName = processingEnv.getElementUtils().getBinaryName(owner).toString();
+                owners.put(ownerName, owner);
+                presenterClasses.put(ownerName, getCanonicalName(presenterClass));
+            }
+        }
+        if (owners.isEmpty()) {
+            return false;
+        }
+
+        checkBindings(roundEnv, owners);
+
+        if (mGenerated) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "@PresenterClass owners generated in a later round are not supported", owners.values().iterator().next());
+            return false;
+        }
+        mGenerated = true;
+        generateRegistry(owners, presenterClasses);
+        return false;
+    }
+
+    /**
+     * Checks that an annotated owner implements HasPresenter.
+     *
+     * @param owner Owner.
+     * @return True if the owner is valid, else an error is reported.
+     */
+    private boolean checkOwner(TypeElement owner) {
+        Types types = processingEnv.getTypeUtils();
+        TypeElement hasPresenter = processingEnv.getElementUtils().getTypeElement(HAS_PRESENTER);
+        if (hasPresenter != null && !types.isAssignable(types.erasure(owner.asType()), types.erasure(hasPresenter.asType()))) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "@PresenterClass owner " + owner.getQualifiedName() + " does not implement HasPresenter", owner);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks that a class can be referenced from a package, i.e. it and its enclosing classes are public or in this package and
+     * not private.
+     *
+     * @param type        Class.
+     * @param packageName Package referencing the class.
+     * @return True if the class is accessible from the package.
+     */
+    private static boolean isAccessible(TypeElement type, String packageName) {
+        boolean samePackage = getPackage(type).getQualifiedName().contentEquals(packageName);
+        for (Element element = type; element.getKind() != ElementKind.PACKAGE; element = element.getEnclosingElement()) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || !samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that the presenter class of each owner is bound in the dagger presenter map, either exactly or by a single
+     * subclass as resolved by PresenterFactory. The check is skipped if no presenter binding is compiled along the owners.
+     *
+     * @param roundEnv Round environment.
+     * @param owners   Owners by name.
+     */
+    private void checkBindings(RoundEnvironment roundEnv, Map<String, TypeElement> owners) {
+        TypeElement intoMap = processingEnv.getElementUtils().getTypeElement(INTO_MAP);
+        TypeElement presenter = processingEnv.getElementUtils().getTypeElement(PRESENTER);
+        if (intoMap == null || presenter == null) {
+            return;
+        }
+
+        Types types = processingEnv.getTypeUtils();
+        List<TypeMirror> bound = new ArrayList<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(intoMap)) {
+            if (element.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+                Element annotationType = annotation.getAnnotationType().asElement();
+                if (getAnnotation(annotationType, MAP_KEY) == null) {
+                    continue;
+                }
+                TypeMirror key = getClassValue(annotation);
+                if (key != null && types.isAssignable(types.erasure(key), types.erasure(presenter.asType()))) {
+                    bound.add(key);
+                }
+            }
+        }
+        if (bound.isEmpty()) {
+            return;
+        }
+
+        for (TypeElement owner : owners.values()) {
+            TypeMirror presenterClass = getClassValue(getAnnotation(owner, PRESENTER_CLASS));
+            List<String> matches = new ArrayList<>();
+            for (TypeMirror key : bound) {
+                if (types.isSameType(key, presenterClass)) {
+                    matches.clear();
+                    matches.add(getCanonicalName(key));
+                    break;
+                }
+                if (types.isAssignable(types.erasure(key), types.erasure(presenterClass))) {
+                    matches.add(getCanonicalName(key));
+                }
+            }
+
+            if (matches.isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Presenter " + presenterClass + " of " + owner.getQualifiedName() + " is not bound in the presenter map",
+                        owner);
+            } else if (matches.size() > 1) {
+                Collections.sort(matches);
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Presenter " + presenterClass + " of " + owner.getQualifiedName() + " is ambiguous, it matches " + matches,
+                        owner);
+            }
+        }
+    }
+
+    /**
+     * Generates the registry of the owners, leaving out the owners which cannot be referenced from the registry package.
+     *
+     * @param owners           Owners by name.
+     * @param presenterClasses Presenter class names by owner name.
+     */
+    private void generateRegistry(Map<String, TypeElement> owners, Map<String, String> presenterClasses) {
+        String packageName = processingEnv.getOptions().get(REGISTRY_PACKAGE_OPTION);
+        if (packageName == null) {
+            packageName = getCommonPackage(owners.values());
+        }
+        String registryName = packageName.isEmpty() ? REGISTRY_NAME : packageName + "." + REGISTRY_NAME;
+
+        Map<String, TypeElement> registered = new TreeMap<>();
+        for (Map.Entry<String, TypeElement> entry : owners.entrySet()) {
+            TypeElement owner = entry.getValue();
+            TypeElement presenterClass = processingEnv.getElementUtils().getTypeElement(presenterClasses.get(entry.getKey()));
+            if (isAccessible(owner, packageName) && presenterClass != null && isAccessible(presenterClass, packageName)) {
+                registered.put(entry.getKey(), owner);
+            } else {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "@PresenterClass owner " + owner.getQualifiedName()
+                        + " or its presenter cannot be referenced from " + registryName + ", it is read by reflection", owner);
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Registry of the presenter classes generated from the @PresenterClass annotations.\n")
+                .append(" */\n")
+                .append("public final class ").append(REGISTRY_NAME)
+                .append(" implements com.mandria.android.mvp.provider.PresenterClassRegistry {\n\n")
+                .append("    private final java.util.HashMap<Class<?>, Class<? extends com.mandria.android.mvp.Presenter>> ")
+                .append("mPresenterClasses =\n")
+                .append("            new java.util.HashMap<>(").append(registered.size() * 4 / 3 + 1).append(");\n\n")
+                .append("    public ").append(REGISTRY_NAME).append("() {\n");
+        for (Map.Entry<String, TypeElement> entry : registered.entrySet()) {
+            source.append("        mPresenterClasses.put(")
+                    .append(entry.getValue().getQualifiedName()).append(".class, ")
+                    .append(presenterClasses.get(entry.getKey())).append(".class);\n");
+        }
+        source.append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Class<? extends com.mandria.android.mvp.Presenter> getPresenterClass(Class<?> ownerClass) {\n")
+                .append("        return mPresenterClasses.get(ownerClass);\n")
+                .append("    }\n")
+                .append("}\n");
+
+        try {
+            JavaFileObject file = processingEnv.getFiler()
+                    .createSourceFile(registryName, owners.values().toArray(new Element[owners.size()]));
+            Writer writer = file.openWriter();
+            try {
+                writer.write(source.toString());
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + registryName + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the longest package shared by the owners.
+     *
+     * @param owners Owners.
+     * @return The common package, empty if there is none.
+     */
+    private String getCommonPackage(Iterable<TypeElement> owners) {
+        String common = null;
+        for (TypeElement owner : owners) {
+            String packageName = getPackage(owner).getQualifiedName().toString();
+            if (common == null) {
+                common = packageName;
+            } else {
+                while (!packageName.equals(common) && !packageName.startsWith(common + ".")) {
+                    int index = common.lastIndexOf('.');
+                    common = index < 0 ? "" : common.substring(0, index);
+                    if (common.isEmpty()) {
+                        return common;
+                    }
+                }
+            }
+        }
+        return common == null ? "" : common;
+    }
+
+    /**
+     * Gets the package of an element.
+     *
+     * @param element Element.
+     * @return The package.
+     */
+    private static PackageElement getPackage(Element element) {
+        while (element.getKind() != ElementKind.PACKAGE) {
+            element = element.getEnclosingElement();
+        }
+        return (PackageElement) element;
+    }
+
+    /**
+     * Gets the canonical name of a class to reference it in the generated source.
+     *
+     * @param type Class type.
+     * @return Canonical name.
+     */
+    private String getCanonicalName(TypeMirror type) {
+        return ((TypeElement) processingEnv.getTypeUtils().asElement(type)).getQualifiedName().toString();
+    }
+
+    /**
+     * Gets an annotation of an element by its type name.
+     *
+     * @param element        Element.
+     * @param annotationName Annotation type name.
+     * @return The annotation, null if the element is not annotated with it.
+     */
+    private static AnnotationMirror getAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the class value of an annotation.
+     *
+     * @param annotation Annotation.
+     * @return The class given as value, null if there is none.
+     */
+    private static TypeMirror getClassValue(AnnotationMirror annotation) {
+        if (annotation == null) {
+            return null;
+        }
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value") && entry.getValue().getValue() instanceof DeclaredType) {
+                return (TypeMirror) entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+}
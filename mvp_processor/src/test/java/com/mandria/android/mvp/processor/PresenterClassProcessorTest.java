@@ -0,0 +1,230 @@
+package com.mandria.android.mvp.processor;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compiles annotated owners with the {@link PresenterClassProcessor} and checks the generated registry.
+ */
+public class PresenterClassProcessorTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    private File mSources;
+
+    private File mClasses;
+
+    private final List<File> mFiles = new ArrayList<>();
+
+    private final DiagnosticCollector<JavaFileObject> mDiagnostics = new DiagnosticCollector<>();
+
+    @Before
+    public void setUp() throws IOException {
+        mSources = mFolder.newFolder("sources");
+        mClasses = mFolder.newFolder("classes");
+
+        // Library types the processor refers to by name
+        source("com.mandria.android.mvp.Presenter", "public abstract class Presenter<V> {}");
+        source("com.mandria.android.mvp.HasPresenter", "public interface HasPresenter<P extends Presenter> { P getPresenter(); }");
+        source("com.mandria.android.mvp.provider.PresenterClass",
+                "public @interface PresenterClass { Class<? extends com.mandria.android.mvp.Presenter> value(); }");
+        source("com.mandria.android.mvp.provider.PresenterClassRegistry", "public interface PresenterClassRegistry {"
+                + " Class<? extends com.mandria.android.mvp.Presenter> getPresenterClass(Class<?> ownerClass); }");
+    }
+
+    @Test
+    public void registersPublicOwners() throws IOException {
+        presenter("a.b.MainPresenter", "public");
+        owner("a.b.MainActivity", "public", "a.b.MainPresenter");
+        owner("a.c.DetailActivity", "public", "a.b.MainPresenter");
+
+        assertTrue(mDiagnostics.getDiagnostics().toString(), compile());
+        String registry = registry("a");
+        assertTrue(registry, registry.contains("mPresenterClasses.put(a.b.MainActivity.class, a.b.MainPresenter.class);"));
+        assertTrue(registry, registry.contains("mPresenterClasses.put(a.c.DetailActivity.class, a.b.MainPresenter.class);"));
+    }
+
+    @Test
+    public void leavesOutPackagePrivateOwnerOutsideOfRegistryPackage() throws IOException {
+        presenter("a.b.MainPresenter", "public");
+        owner("a.b.MainActivity", "", "a.b.MainPresenter");
+        owner("a.c.DetailActivity", "public", "a.b.MainPresenter");
+
+        assertTrue(mDiagnostics.getDiagnostics().toString(), compile());
+        String registry = registry("a");
+        assertFalse(registry, registry.contains("a.b.MainActivity"));
+        assertTrue(registry, registry.contains("mPresenterClasses.put(a.c.DetailActivity.class, a.b.MainPresenter.class);"));
+        assertTrue(hasDiagnostic(Diagnostic.Kind.NOTE, "a.b.MainActivity"));
+    }
+
+    @Test
+    public void leavesOutPackagePrivatePresenterOutsideOfRegistryPackage() throws IOException {
+        presenter("a.b.MainPresenter", "");
+        owner("a.b.MainActivity", "public", "a.b.MainPresenter");
+        presenter("a.c.DetailPresenter", "public");
+        owner("a.c.DetailActivity", "public", "a.c.DetailPresenter");
+
+        assertTrue(mDiagnostics.getDiagnostics().toString(), compile());
+        String registry = registry("a");
+        assertFalse(registry, registry.contains("a.b.MainActivity"));
+        assertTrue(registry, registry.contains("mPresenterClasses.put(a.c.DetailActivity.class, a.c.DetailPresenter.class);"));
+    }
+
+    @Test
+    public void registersPackagePrivateOwnerInRegistryPackage() throws IOException {
+        presenter("a.b.MainPresenter", "");
+        owner("a.b.MainActivity", "", "a.b.MainPresenter");
+
+        assertTrue(mDiagnostics.getDiagnostics().toString(), compile());
+        String registry = registry("a.b");
+        assertTrue(registry, registry.contains("mPresenterClasses.put(a.b.MainActivity.class, a.b.MainPresenter.class);"));
+    }
+
+    @Test
+    public void leavesOutPrivateOwner() throws IOException {
+        presenter("a.b.MainPresenter", "public");
+        source("a.b.Screens", "public class Screens {\n"
+                + "    @com.mandria.android.mvp.provider.PresenterClass(MainPresenter.class)\n"
+                + "    private static class MainActivity implements com.mandria.android.mvp.HasPresenter<MainPresenter> {\n"
+                + "        public MainPresenter getPresenter() { return null; }\n"
+                + "    }\n"
+                + "}");
+
+        assertTrue(mDiagnostics.getDiagnostics().toString(), compile());
+        assertFalse(registry("a.b").contains("MainActivity"));
+    }
+
+    @Test
+    public void failsIfOwnerDoesNotImplementHasPresenter() throws IOException {
+        presenter("a.b.MainPresenter", "public");
+        source("a.b.MainActivity", "@com.mandria.android.mvp.provider.PresenterClass(MainPresenter.class)\n"
+                + "public class MainActivity {}");
+
+        assertFalse(compile());
+        assertTrue(hasDiagnostic(Diagnostic.Kind.ERROR, "does not implement HasPresenter"));
+    }
+
+    /**
+     * Writes a presenter source.
+     *
+     * @param name      Presenter class name.
+     * @param modifiers Class modifiers.
+     */
+    private void presenter(String name, String modifiers) throws IOException {
+        source(name, modifiers + " class " + getSimpleName(name) + " extends com.mandria.android.mvp.Presenter<Object> {}");
+    }
+
+    /**
+     * Writes an owner source annotated with {@code @PresenterClass}.
+     *
+     * @param name          Owner class name.
+     * @param modifiers     Class modifiers.
+     * @param presenterName Presenter class name.
+     */
+    private void owner(String name, String modifiers, String presenterName) throws IOException {
+        source(name, "@com.mandria.android.mvp.provider.PresenterClass(" + presenterName + ".class)\n"
+                + modifiers + " class " + getSimpleName(name) + " implements com.mandria.android.mvp.HasPresenter<"
+                + presenterName + "> {\n"
+                + "    public " + presenterName + " getPresenter() { return null; }\n"
+                + "}");
+    }
+
+    /**
+     * Writes a source file.
+     *
+     * @param name Top level class name.
+     * @param body Source without package declaration.
+     */
+    private void source(String name, String body) throws IOException {
+        int index = name.lastIndexOf('.');
+        File file = new File(mSources, name.replace('.', File.separatorChar) + ".java");
+        assertTrue(file.getParentFile().isDirectory() || file.getParentFile().mkdirs());
+        String source = "package " + name.substring(0, index) + ";\n\n" + body + "\n";
+        Files.write(file.toPath(), source.getBytes(UTF_8));
+        mFiles.add(file);
+    }
+
+    /**
+     * Compiles the sources with the processor, the generated registry being compiled along them.
+     *
+     * @return True if the compilation succeeded.
+     */
+    private boolean compile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(mDiagnostics, Locale.ROOT, UTF_8);
+        try {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, mDiagnostics,
+                    Arrays.asList("-d", mClasses.getPath(), "-s", mClasses.getPath()), null,
+                    fileManager.getJavaFileObjectsFromFiles(mFiles));
+            task.setProcessors(Collections.singletonList(new PresenterClassProcessor()));
+            return task.call();
+        } finally {
+            fileManager.close();
+        }
+    }
+
+    /**
+     * Reads the generated registry source.
+     *
+     * @param packageName Expected registry package.
+     * @return The registry source.
+     */
+    private String registry(String packageName) throws IOException {
+        File file = new File(mClasses, packageName.replace('.', File.separatorChar) + File.separator
+                + "GeneratedPresenterClassRegistry.java");
+        assertTrue("Registry not generated in " + packageName, file.isFile());
+        return new String(Files.readAllBytes(file.toPath()), UTF_8);
+    }
+
+    /**
+     * Gets if a diagnostic of the given kind contains a text.
+     *
+     * @param kind Diagnostic kind.
+     * @param text Expected text.
+     * @return True if such a diagnostic has been reported.
+     */
+    private boolean hasDiagnostic(Diagnostic.Kind kind, String text) {
+        for (Diagnostic<? extends JavaFileObject> diagnostic : mDiagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == kind && diagnostic.getMessage(Locale.ROOT).contains(text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the simple name of a class.
+     *
+     * @param name Class name.
+     * @return Simple name.
+     */
+    private static String getSimpleName(String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
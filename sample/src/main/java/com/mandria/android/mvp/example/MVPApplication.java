@@ -1,9 +1,11 @@
 package com.mandria.android.mvp.example;
 
 import com.mandria.android.mvp.MVPLogger;
+import com.mandria.android.mvp.example.activities.GeneratedPresenterClassRegistry;
 import com.mandria.android.mvp.example.di.components.AppComponent;
 import com.mandria.android.mvp.example.di.components.DaggerAppComponent;
 import com.mandria.android.mvp.example.di.components.UserComponent;
+import com.mandria.android.mvp.provider.PresenterProvider;
 
 import android.app.Application;
 
@@ -21,6 +23,7 @@ public class MVPApplication extends Application {
         super.onCreate();
 
         MVPLogger.SHOW_MVP_LOGS = true;
+        PresenterProvider.setPresenterClassRegistry(new GeneratedPresenterClassRegistry());
 
         initializeInjector();
     }